@@ -15,12 +15,33 @@ java {
 
 repositories { mavenCentral() }
 
+// JMH 벤치마크 (src/jmh/java) - 실행: ./gradlew jmh -PjmhArgs="JwtAuth"
+// 결과는 build/reports/jmh/results.json (JMH JSON 형식, 회귀 추적용) - jmhArgs에 -rf/-rff를 주면 그 값을 따른다
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+// HTTP 부하 테스트 (src/loadTest/java) - 실행: ./gradlew loadTest -PloadTestArgs="rates=50,100,200 duration=30"
+// 합성 데이터를 적재한 앱(H2)을 별도 JVM으로 띄우고, 리포트는 build/reports/loadtest
+val loadTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
 
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.roaringbitmap:RoaringBitmap:1.0.6")
 
     implementation("com.querydsl:querydsl-jpa:5.1.0:jakarta")
     annotationProcessor("com.querydsl:querydsl-apt:5.1.0:jakarta")
@@ -47,6 +68,36 @@ dependencies {
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.mockito:mockito-junit-jupiter")
+    testRuntimeOnly("com.h2database:h2")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    "jmhImplementation"("com.h2database:h2")
+
+    "loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+    "loadTestRuntimeOnly"("com.h2database:h2")
 }
 
 tasks.withType<Test> { useJUnitPlatform() }
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "JMH 벤치마크 실행"
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val userArgs = (project.findProperty("jmhArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    args = if (userArgs.any { it == "-rf" || it == "-rff" }) userArgs
+           else listOf("-rf", "json", "-rff", resultFile.path) + userArgs
+    doFirst { resultFile.parentFile.mkdirs() }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "benchmark"
+    description = "HTTP 부하 테스트 실행 (엔드포인트별 지연 백분위/오류율)"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.ktb.community.loadtest.LoadTest")
+    val userArgs = (project.findProperty("loadTestArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+    val outDir = layout.buildDirectory.dir("reports/loadtest").get().asFile
+    args = listOf("out=" + outDir.path) + userArgs
+}
@@ -0,0 +1,56 @@
+package com.ktb.community.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.dto.ApiResponse;
+import com.ktb.community.dto.PostDtos.AuthorSummary;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /posts 응답 직렬화 비용 (ApiResponse로 감싼 PostSummary 한 페이지 → JSON 바이트)
+ * - ObjectMapper는 Spring Boot 기본 구성과 같은 Jackson2ObjectMapperBuilder 설정 (JavaTimeModule, 날짜 문자열)
+ * - 응답 모양은 PostController.list의 오프셋 모드와 동일
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private ApiResponse<Map<String, Object>> response;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        List<PostSummary> page = new ArrayList<>(size);
+        for (int n = 0; n < size; n++) {
+            AuthorSummary author = new AuthorSummary(1000 + n, "작성자" + n, n % 3 == 0 ? null : "https://img.example/profile/" + n + ".jpg");
+            page.add(new PostSummary(50_000 - n, "스프링 트랜잭션 질문 " + n,
+                    "오늘 정리한 내용을 공유합니다. 질문이 있습니다. 혹시 아시는 분 계신가요? 처음 해보는데 어렵네요 " + n,
+                    author, now.minusMinutes(n * 7L), 1200 + n, 35 + n, 4 + n % 9,
+                    n % 2 == 0 ? "https://img.example/posts/" + n + ".jpg" : null, n % 5 == 0));
+        }
+        response = new ApiResponse<>("get_posts_success", Map.of(
+                "posts", page,
+                "pagination", Map.of("total_count", 50_000L)));
+    }
+
+    @Benchmark
+    public byte[] writePostPage() throws Exception {
+        return mapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.CommunityApplication;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.CreatePostRequest;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.service.PostService;
+import com.ktb.community.util.JwtUtil;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 모드 비교 (플랫폼 스레드 풀 vs 가상 스레드) - 처리량과 p99 (SampleTime의 p0.99)
+ * - 실제 Tomcat에 HTTP로 동시 요청 (JMH 스레드 수 = 동시 클라이언트 수)
+ * - GET /posts: H2(인메모리) 피드 첫 페이지 이후 페이지를 돌아가며 조회 (합치기/캐시를 피해 DB까지 내려가도록)
+ * - POST /posts/upload-image: 64KB 이미지를 스텁 S3(응답 지연 s3LatencyMs)로 업로드
+ * - 실행: ./gradlew jmh -PjmhArgs="RequestModeBenchmark" (동시 클라이언트 수는 -t로 조절, 부하 발생기와 서버가 같은 머신이므로 코어가 충분할 때 의미 있음)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(256)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestModeBenchmark {
+    private static final String BOUNDARY = "----bench-boundary";
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"30"})
+    public int s3LatencyMs;
+
+    private HttpServer s3;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private String bearer;
+    private byte[] uploadBody;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int page;
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        s3 = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        s3.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        s3.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) { in.readAllBytes(); }
+            try { Thread.sleep(s3LatencyMs); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        s3.start();
+
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(mode),
+                        "spring.datasource.url=jdbc:h2:mem:mode-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN",
+                        "aws.s3.bucket-name=bench", "aws.s3.region=ap-northeast-2",
+                        "aws.s3.access-key=bench", "aws.s3.secret-key=bench",
+                        "aws.s3.endpoint=http://localhost:" + s3.getAddress().getPort())
+                .run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        User u = new User();
+        u.setNickname("bench"); u.setEmail("bench@test.com"); u.setPassword("pass1234");
+        Integer userId = context.getBean(UserRepository.class).save(u).getId();
+        PostService posts = context.getBean(PostService.class);
+        for (int n = 0; n < 500; n++) posts.create(userId, new CreatePostRequest("제목 " + n, "본문 " + n, "https://img/" + n));
+        bearer = "Bearer " + context.getBean(JwtUtil.class).generateAccessToken(userId, u.getEmail(), u.getNickname());
+
+        uploadBody = multipart(new byte[64 * 1024]);
+        client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        s3.stop(0);
+    }
+
+    @Benchmark
+    public int listPosts(Cursor cursor) throws Exception {
+        int page = 1 + (cursor.page++ % 20);
+        HttpRequest req = HttpRequest.newBuilder(URI.create(baseUrl + "/posts?page=" + page + "&size=20")).GET().build();
+        return expectOk(client.send(req, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    @Benchmark
+    public int uploadImage() throws Exception {
+        HttpRequest req = HttpRequest.newBuilder(URI.create(baseUrl + "/posts/upload-image"))
+                .header("Authorization", bearer)
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(uploadBody))
+                .build();
+        return expectOk(client.send(req, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    private static int expectOk(HttpResponse<byte[]> res) {
+        if (res.statusCode() != 200) {
+            throw new IllegalStateException(res.statusCode() + " " + new String(res.body(), StandardCharsets.UTF_8));
+        }
+        return res.body().length;
+    }
+
+    private static byte[] multipart(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String head = "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"bench.png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n";
+        out.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(content);
+        out.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ktb.community.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter가 요청마다 하는 경로 분류 (RoutePolicyTable.classify)
+ * - 분류표는 현재 컨트롤러 매핑과 같은 구성 (RoutePolicyRegistry가 기동 시 만드는 것과 동일한 경로/등급)
+ * - 요청 경로는 실제 트래픽 비율을 흉내 낸 혼합 (목록/상세/댓글 위주, 미등록 경로 일부)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutePolicyBenchmark {
+    private static final String[][] REQUESTS = {
+            {"GET", "/posts"}, {"GET", "/posts"}, {"GET", "/posts/1842"}, {"GET", "/posts/77"},
+            {"GET", "/posts/1842/comments"}, {"GET", "/posts/trending"}, {"GET", "/posts/me/likes"},
+            {"POST", "/posts/1842/comments"}, {"POST", "/posts/1842/like"}, {"DELETE", "/posts/1842/like"},
+            {"PATCH", "/posts/1842/comments/99"}, {"POST", "/users/login"}, {"POST", "/users/refresh"},
+            {"GET", "/favicon.ico"}, {"GET", "/posts/1842/unknown"}, {"GET", "/privacy"}
+    };
+
+    private RoutePolicyTable table;
+
+    @Setup
+    public void setUp() {
+        table = RoutePolicyTable.of(List.of(
+                route("GET", "/posts", AuthLevel.OPTIONAL),
+                route("GET", "/posts/trending", AuthLevel.PUBLIC),
+                route("GET", "/posts/{postId}", AuthLevel.OPTIONAL),
+                route("POST", "/posts", AuthLevel.REQUIRED),
+                route("POST", "/posts/upload-image", AuthLevel.REQUIRED),
+                route("PATCH", "/posts/{postId}", AuthLevel.REQUIRED),
+                route("PUT", "/posts/{postId}", AuthLevel.REQUIRED),
+                route("POST", "/posts/{postId}/like", AuthLevel.REQUIRED),
+                route("DELETE", "/posts/{postId}/like", AuthLevel.REQUIRED),
+                route("GET", "/posts/me/likes", AuthLevel.REQUIRED),
+                route("GET", "/posts/{postId}/comments", AuthLevel.PUBLIC),
+                route("POST", "/posts/{postId}/comments", AuthLevel.REQUIRED),
+                route("PATCH", "/posts/{postId}/comments/{commentId}", AuthLevel.REQUIRED),
+                route("PUT", "/posts/{postId}/comments/{commentId}", AuthLevel.REQUIRED),
+                route("POST", "/users/signup", AuthLevel.PUBLIC),
+                route("POST", "/users/login", AuthLevel.PUBLIC),
+                route("PUT", "/users/profile", AuthLevel.REQUIRED),
+                route("POST", "/users/upload-profile-image", AuthLevel.REQUIRED),
+                route("POST", "/users/upload-profile-image-public", AuthLevel.PUBLIC),
+                route("PUT", "/users/change-password", AuthLevel.REQUIRED),
+                route("DELETE", "/users/withdraw", AuthLevel.REQUIRED),
+                route("POST", "/users/refresh", AuthLevel.PUBLIC),
+                route("GET", "/privacy", AuthLevel.PUBLIC)));
+    }
+
+    /** 혼합 요청 16건 한 묶음 분류 */
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void classifyMix(Blackhole bh) {
+        for (String[] r : REQUESTS) bh.consume(table.classify(r[0], r[1]));
+    }
+
+    @Benchmark
+    public AuthLevel classifyDetail() {
+        return table.classify("GET", "/posts/1842");
+    }
+
+    private static RoutePolicyTable.Route route(String method, String pattern, AuthLevel level) {
+        return new RoutePolicyTable.Route(method, pattern, level);
+    }
+}
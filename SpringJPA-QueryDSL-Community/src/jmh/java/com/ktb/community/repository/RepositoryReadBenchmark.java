@@ -0,0 +1,205 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.CommunityApplication;
+import com.ktb.community.domain.Comment;
+import com.ktb.community.domain.Post;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.search.PostSearchIndexer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록/검색(PostRepositoryImpl.search, searchByCursor)과 댓글 목록(CommentRepositoryImpl.findActiveByPostId) 조회 비용
+ * - H2 인메모리(MySQL 모드)에 사용자 2천, 게시글 5만, 댓글 20만 건을 JDBC 배치로 적재 (seed 고정)
+ *   좋아요/조회수는 소수 게시글에 몰리도록, 댓글은 인기 게시글 하나(5천 건)와 나머지에 치우치게 분포
+ *   이미지 행(post_images)은 넣지 않고 목록이 쓰는 image_count/thumbnail_url 컬럼만 채운다
+ * - 적재 후 검색 색인을 다시 만들어 키워드 검색도 색인 경로를 탄다
+ * - 캐시/합치기가 있는 서비스 계층을 거치지 않고 저장소를 직접 호출 (매번 DB까지)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryReadBenchmark {
+    private static final int USERS = 2_000;
+    private static final int POSTS = 50_000;
+    private static final int COMMENTS = 200_000;
+    private static final int HOT_POST_COMMENTS = 5_000;
+    private static final int PAGE_SIZE = 20;
+    private static final String[] TOPICS = {
+            "스프링", "자바", "트랜잭션", "인덱스", "캐시", "쿼리", "배포", "테스트", "도커", "쿠버네티스",
+            "리액트", "타입스크립트", "레디스", "카프카", "모니터링", "로그", "보안", "인증", "성능", "리팩터링",
+            "알고리즘", "코딩테스트", "면접", "이력서", "스터디", "프로젝트", "회고", "멘토링", "네트워크", "운영체제",
+            "데이터베이스", "클라우드", "서버리스", "파이썬", "코틀린", "안드로이드", "디자인패턴", "아키텍처", "람다", "깃허브"
+    };
+    private static final String[] FILLER = {
+            "오늘", "정리한", "내용을", "공유합니다", "질문이", "있습니다", "감사합니다", "혹시", "아시는", "분",
+            "계신가요", "처음", "해보는데", "어렵네요", "참고", "바랍니다", "좋은", "하루", "되세요", "후기"
+    };
+
+    private ConfigurableApplicationContext context;
+    private PostRepository posts;
+    private CommentRepository comments;
+    private Integer hotPostId;
+    private Integer typicalPostId;
+    private String deepPostCursor;
+    private String deepCommentCursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:read-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN",
+                        "aws.s3.bucket-name=bench", "aws.s3.region=ap-northeast-2",
+                        "aws.s3.access-key=bench", "aws.s3.secret-key=bench")
+                .run();
+        seed(context.getBean(JdbcTemplate.class), new SplittableRandom(20241018L));
+        context.getBean(PostSearchIndexer.class).rebuild();
+        posts = context.getBean(PostRepository.class);
+        comments = context.getBean(CommentRepository.class);
+
+        // 50페이지 뒤 커서 / 인기 게시글 댓글 중간 커서
+        String cursor = null;
+        for (int n = 0; n < 50; n++) cursor = posts.searchByCursor(null, null, null, null, null, "LATEST", cursor, PAGE_SIZE, false).getNextCursor();
+        deepPostCursor = cursor;
+        cursor = null;
+        for (int n = 0; n < HOT_POST_COMMENTS / PAGE_SIZE / 2; n++) cursor = comments.findActiveByPostId(hotPostId, cursor, PAGE_SIZE).getNextCursor();
+        deepCommentCursor = cursor;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PostSummary> searchLatestFirstPage() {
+        return posts.search(null, null, null, null, null, latest(0));
+    }
+
+    @Benchmark
+    public Page<PostSummary> searchLatestOffset500() {
+        return posts.search(null, null, null, null, null, latest(500));
+    }
+
+    @Benchmark
+    public Page<PostSummary> searchKeyword() {
+        return posts.search("트랜잭션", null, null, null, null, latest(0));
+    }
+
+    @Benchmark
+    public Page<PostSummary> searchHasImage() {
+        return posts.search(null, null, true, null, null, latest(0));
+    }
+
+    @Benchmark
+    public Page<PostSummary> searchPopular() {
+        return posts.search(null, null, null, null, null, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "likeCount")));
+    }
+
+    @Benchmark
+    public CursorPage<PostSummary> searchByCursorDeep() {
+        return posts.searchByCursor(null, null, null, null, null, "LATEST", deepPostCursor, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public CursorPage<Comment> commentsHotFirstPage() {
+        return comments.findActiveByPostId(hotPostId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<Comment> commentsHotDeep() {
+        return comments.findActiveByPostId(hotPostId, deepCommentCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<Comment> commentsTypical() {
+        return comments.findActiveByPostId(typicalPostId, null, PAGE_SIZE);
+    }
+
+    private static PageRequest latest(int page) {
+        return PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "publishedAt"));
+    }
+
+    private void seed(JdbcTemplate jdbc, SplittableRandom random) {
+        LocalDateTime origin = LocalDateTime.now().minusDays(365).withNano(0);
+
+        List<Object[]> rows = new ArrayList<>(USERS);
+        for (int id = 1; id <= USERS; id++) {
+            Timestamp at = Timestamp.valueOf(origin.plusMinutes(id));
+            rows.add(new Object[]{id, "user" + id, "user" + id + "@bench.com", "pass1234", null, false, at, at});
+        }
+        jdbc.batchUpdate("insert into users (user_id, nickname, email, password, profile_image_url, is_deleted, created_at, updated_at)"
+                + " values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+
+        // 댓글 분포를 먼저 정해 게시글의 comment_count와 맞춘다
+        hotPostId = POSTS - 10;
+        int[] postOfComment = new int[COMMENTS];
+        int[] commentCounts = new int[POSTS + 1];
+        for (int n = 0; n < COMMENTS; n++) {
+            int postId;
+            if (n < HOT_POST_COMMENTS) {
+                postId = hotPostId;
+            } else {
+                double r = random.nextDouble();
+                postId = POSTS - (int) (r * r * r * (POSTS - 1));
+            }
+            postOfComment[n] = postId;
+            commentCounts[postId]++;
+        }
+        typicalPostId = POSTS / 2;
+
+        rows = new ArrayList<>(1000);
+        for (int id = 1; id <= POSTS; id++) {
+            String title = TOPICS[random.nextInt(TOPICS.length)] + " " + TOPICS[random.nextInt(TOPICS.length)] + " 질문";
+            StringBuilder content = new StringBuilder();
+            for (int w = 0; w < 40; w++) content.append(FILLER[random.nextInt(FILLER.length)]).append(' ');
+            int imageCount = random.nextInt(10) < 4 ? 1 + random.nextInt(5) : 0;
+            double heat = Math.pow(random.nextDouble(), 8);
+            Timestamp at = Timestamp.valueOf(origin.plusSeconds(id * 600L));
+            rows.add(new Object[]{id, 1 + random.nextInt(USERS), title, content.toString(), Post.excerptOf(content.toString()),
+                    imageCount, imageCount > 0 ? "https://img.bench/" + id + ".jpg" : null, false, at, at,
+                    (int) (heat * 50_000), (int) (heat * 2_000), commentCounts[id]});
+            if (rows.size() == 1000) { insertPosts(jdbc, rows); rows.clear(); }
+        }
+        insertPosts(jdbc, rows);
+
+        rows = new ArrayList<>(1000);
+        for (int n = 0; n < COMMENTS; n++) {
+            Timestamp at = Timestamp.valueOf(origin.plusSeconds(n * 150L));
+            rows.add(new Object[]{n + 1, 1 + random.nextInt(USERS), postOfComment[n], "댓글 " + n, false, at, at});
+            if (rows.size() == 1000) { insertComments(jdbc, rows); rows.clear(); }
+        }
+        insertComments(jdbc, rows);
+    }
+
+    private static void insertPosts(JdbcTemplate jdbc, List<Object[]> rows) {
+        jdbc.batchUpdate("insert into posts (post_id, user_id, title, content, excerpt, image_count, thumbnail_url, is_deleted,"
+                + " published_at, updated_at, view_count, like_count, comment_count) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private static void insertComments(JdbcTemplate jdbc, List<Object[]> rows) {
+        jdbc.batchUpdate("insert into comments (comment_id, user_id, post_id, content, is_deleted, published_at, updated_at)"
+                + " values (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ktb.community.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LikedPostIndex가 사용하는 사용자별 Roaring 비트맵의 메모리/조회 비용
+ * - 좋아요 100만 건을 사용자 활동도·게시글 인기도 모두 Zipf 분포로 생성 (seed 고정)
+ * - 메모리: 기동 로그의 [footprint] 줄 (비트맵 getSizeInBytes 합 + 항목당 고정 비용, 100만 건당 바이트)
+ * - 조회: 단건 contains / 피드 한 페이지(20건) 판정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LikeBitmapBenchmark {
+    private static final int LIKES = 1_000_000;
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    @Param({"10000", "100000"})
+    public int users;
+
+    @Param({"200000"})
+    public int postsCount;
+
+    private RoaringBitmap[] bitmaps;
+    private int[] probeUsers;
+    private int[] probePosts;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(20241018L);
+        double[] userCdf = zipfCdf(users, 1.0);
+        double[] postCdf = zipfCdf(postsCount, 1.1);
+
+        bitmaps = new RoaringBitmap[users];
+        for (int u = 0; u < users; u++) bitmaps[u] = new RoaringBitmap();
+        long distinct = 0;
+        while (distinct < LIKES) {
+            int u = sample(userCdf, random);
+            int p = 1 + sample(postCdf, random);
+            if (bitmaps[u].checkedAdd(p)) distinct++;
+        }
+        long bytes = 0;
+        int nonEmpty = 0;
+        for (RoaringBitmap b : bitmaps) {
+            b.runOptimize();
+            if (b.isEmpty()) continue;
+            nonEmpty++;
+            bytes += b.getSizeInBytes() + ENTRY_OVERHEAD_BYTES;
+        }
+        System.out.printf("[footprint] users=%d (active %d) posts=%d likes=%d bitmapBytes=%d bytesPerMillionLikes=%d bytesPerLike=%.2f (int[] baseline 4.00)%n",
+                users, nonEmpty, postsCount, LIKES, bytes, bytes * 1_000_000L / LIKES, (double) bytes / LIKES);
+
+        probeUsers = new int[4096];
+        probePosts = new int[4096];
+        for (int i = 0; i < probeUsers.length; i++) {
+            probeUsers[i] = sample(userCdf, random);
+            probePosts[i] = 1 + sample(postCdf, random);
+        }
+    }
+
+    @Benchmark
+    public boolean contains() {
+        int i = cursor++ & (probeUsers.length - 1);
+        return bitmaps[probeUsers[i]].contains(probePosts[i]);
+    }
+
+    @Benchmark
+    public int feedPage() {
+        int i = cursor++ & (probeUsers.length - 1);
+        RoaringBitmap b = bitmaps[probeUsers[i]];
+        int liked = 0;
+        for (int k = 0; k < 20; k++) {
+            if (b.contains(probePosts[(i + k) & (probePosts.length - 1)])) liked++;
+        }
+        return liked;
+    }
+
+    private static double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) cdf[k] /= sum;
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, SplittableRandom random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(idx >= 0 ? idx : -idx - 1, cdf.length - 1);
+    }
+}
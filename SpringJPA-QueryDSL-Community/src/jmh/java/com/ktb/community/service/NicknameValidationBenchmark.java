@@ -0,0 +1,47 @@
+package com.ktb.community.service;
+
+import com.ktb.community.dto.UserDtos.SignupRequest;
+import com.ktb.community.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 시 닉네임 검증 비용 (공개 경로 UserService.signup)
+ * - 저장소는 save 인자를 그대로 돌려주는 스텁이므로 검증 + User 생성만 잰다
+ * - valid: 모든 검사 통과 (정규식 두 번)
+ * - rejected: 허용되지 않은 문자 → 예외 생성(스택 트레이스 포함)까지
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NicknameValidationBenchmark {
+
+    @Param({"개발자_neo42", "neo!@#"})
+    public String nickname;
+
+    private UserService userService;
+    private SignupRequest request;
+
+    @Setup
+    public void setUp() {
+        UserRepository users = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{ UserRepository.class },
+                (proxy, method, args) -> method.getName().equals("save") ? args[0] : null);
+        userService = new UserService(users);
+        request = new SignupRequest(nickname, "bench@test.com", "password1234", null);
+    }
+
+    @Benchmark
+    public boolean signup() {
+        try {
+            return userService.signup(request) != null;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
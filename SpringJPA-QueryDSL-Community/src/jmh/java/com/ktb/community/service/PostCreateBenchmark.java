@@ -0,0 +1,73 @@
+package com.ktb.community.service;
+
+import com.ktb.community.CommunityApplication;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.CreatePostRequest;
+import com.ktb.community.repository.UserRepository;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 이미지 10장짜리 게시글 작성 처리량 (PostService.create, 게시글 1 + 이미지 10 INSERT)
+ * - DB는 H2 TCP 서버 (루프백이지만 문장마다 실제 왕복이 생기도록 인메모리 직접 연결 대신 사용)
+ * - batchSize=1: JDBC 배치 없음 (문장마다 왕복, IDENTITY 시절과 같은 전송 방식)
+ * - batchSize=50: @BlockId로 id를 미리 받아 이미지 INSERT 10건을 배치 한 번으로 전송
+ * - IDENTITY 기준값은 @BlockId 도입 이전 커밋에서 같은 벤치마크를 실행해 비교
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostCreateBenchmark {
+    private static final String IMAGE_URLS = IntStream.rangeClosed(1, 10)
+            .mapToObj(n -> "https://img.example/bench-" + n + ".jpg")
+            .collect(Collectors.joining(","));
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private Server h2;
+    private ConfigurableApplicationContext context;
+    private PostService postService;
+    private Integer authorId;
+
+    @Setup
+    public void setUp() throws Exception {
+        h2 = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:tcp://localhost:" + h2.getPort() + "/mem:bench" + batchSize + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "logging.level.root=WARN",
+                        "aws.s3.bucket-name=bench", "aws.s3.region=ap-northeast-2",
+                        "aws.s3.access-key=bench", "aws.s3.secret-key=bench")
+                .run();
+        postService = context.getBean(PostService.class);
+        User u = new User();
+        u.setNickname("bench"); u.setEmail("bench@test.com"); u.setPassword("pass1234");
+        authorId = context.getBean(UserRepository.class).save(u).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        h2.stop();
+    }
+
+    @Benchmark
+    public Integer createWithTenImages() {
+        return postService.create(authorId, new CreatePostRequest("벤치마크", "본문", IMAGE_URLS)).getId();
+    }
+}
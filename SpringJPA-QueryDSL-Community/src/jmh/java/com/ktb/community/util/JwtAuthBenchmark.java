@@ -0,0 +1,71 @@
+package com.ktb.community.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 지불하는 토큰 검증 비용
+ * - legacyPerRequest: 기존 필터 흐름 (validateToken → isTokenExpired → isAccessToken → getUserIdFromToken,
+ *   호출마다 키/파서 생성 후 재검증)
+ * - verifyOnce: JwtUtil.verify 한 번 (미리 만든 키/파서)
+ * - generateAccessToken: 로그인/토큰 재발급 시 서명 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthBenchmark {
+    private static final String SECRET = "ktb-community-secret-key-for-jwt-token-generation-and-validation";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 900_000L, 604_800_000L);
+        accessToken = jwtUtil.generateAccessToken(42, "neo@test.com", "neo");
+    }
+
+    @Benchmark
+    public Integer legacyPerRequest() {
+        if (legacyValidate(accessToken) && !legacyExpired(accessToken) && "access".equals(legacyClaims(accessToken).get("type", String.class))) {
+            return legacyClaims(accessToken).get("userId", Integer.class);
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Integer verifyOnce() {
+        return jwtUtil.verify(accessToken)
+                .filter(VerifiedToken::isAccessToken)
+                .map(VerifiedToken::userId)
+                .orElse(null);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(42, "neo@test.com", "neo");
+    }
+
+    // 변경 전 JwtUtil 구현 (호출마다 키 생성 + 파서 빌드 + 서명 검증)
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseSignedClaims(token).getPayload();
+    }
+
+    private static boolean legacyValidate(String token) {
+        legacyClaims(token);
+        return true;
+    }
+
+    private static boolean legacyExpired(String token) {
+        return legacyClaims(token).getExpiration().before(new Date());
+    }
+}
@@ -0,0 +1,55 @@
+package com.ktb.community.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 한 구간 집계 - 지연(µs, 예정 시각부터 응답 완료까지)과 오류 종류별 건수
+ * - 여러 가상 스레드가 동시에 기록 (HdrHistogram Recorder)
+ */
+final class EndpointStats {
+    final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    EndpointStats(String name) { this.name = name; }
+
+    void success(long micros) {
+        requests.increment();
+        recorder.recordValue(Math.max(micros, 1));
+    }
+
+    /** 실패도 지연은 기록한다 (빠른 실패가 백분위를 가리지 않도록 오류율과 함께 본다) */
+    void failure(String kind, long micros) {
+        requests.increment();
+        failures.increment();
+        if (micros >= 0) recorder.recordValue(Math.max(micros, 1));
+        errors.computeIfAbsent(kind, k -> new LongAdder()).increment();
+    }
+
+    /** 보내지 못한 요청 (동시 요청 상한 초과) - 지연 없이 오류로만 센다 */
+    void dropped() {
+        failure("dropped", -1);
+    }
+
+    long requests() { return requests.sum(); }
+    long failures() { return failures.sum(); }
+
+    Map<String, Long> errorKinds() {
+        Map<String, Long> out = new TreeMap<>();
+        errors.forEach((k, v) -> out.put(k, v.sum()));
+        return out;
+    }
+
+    /** 지금까지 기록된 지연 (호출할 때마다 새 구간 시작) */
+    Histogram takeHistogram() {
+        return recorder.getIntervalHistogram();
+    }
+}
@@ -0,0 +1,311 @@
+package com.ktb.community.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실제 엔드포인트 대상 부하 테스트 (open model - 응답을 기다리지 않고 정해진 도착률로 요청)
+ * - 대상: LoadTestApp을 별도 JVM으로 띄움 (H2 인메모리 + 합성 데이터)
+ * - 요청마다 가상 스레드 하나, 도착 간격은 지수 분포 (평균 = 1/rate)
+ * - 지연은 "예정 시각"부터 잰다 (생성기가 밀려도 대기 시간이 빠지지 않도록 - coordinated omission 보정)
+ * - rates의 각 도착률마다 warmup 후 duration 동안 측정, 엔드포인트별 HdrHistogram 백분위와 오류율 출력
+ * - 실행: ./gradlew loadTest -PloadTestArgs="rates=50,100,200 duration=30 warmup=10"
+ *   옵션(key=value): rates, duration(초), warmup(초), users, posts, comments, likesPerUser, seed,
+ *   sessions(미리 로그인할 사용자 수), maxInFlight, virtual(서버 가상 스레드), appHeap, out(리포트 디렉터리)
+ */
+public final class LoadTest {
+    private static final String PASSWORD = "pass1234";
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    /** 요청 종류와 비중 (합 100) */
+    private enum Op {
+        LOGIN("POST /users/login", 5),
+        LIST_LATEST("GET /posts?sort=LATEST", 20),
+        LIST_POPULAR("GET /posts?sort=POPULAR", 10),
+        LIST_VIEW("GET /posts?sort=VIEW", 5),
+        DETAIL("GET /posts/{id}", 35),
+        COMMENTS("GET /posts/{id}/comments", 10),
+        LIKE_TOGGLE("POST /posts/{id}/like", 10),
+        COMMENT("POST /posts/{id}/comments", 5);
+
+        final String endpoint;
+        final int weight;
+
+        Op(String endpoint, int weight) { this.endpoint = endpoint; this.weight = weight; }
+    }
+
+    private record Target(String baseUrl, int firstUserId, int users, int firstPostId, int posts) { }
+
+    private final Map<String, String> opt;
+    private final HttpClient client;
+    private Target target;
+    private List<String> tokens;
+
+    private LoadTest(Map<String, String> opt) {
+        this.opt = opt;
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(options(args)).run();
+    }
+
+    static Map<String, String> options(String[] args) {
+        Map<String, String> opt = new LinkedHashMap<>();
+        for (String a : args) {
+            int eq = a.indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("expected key=value: " + a);
+            opt.put(a.substring(0, eq), a.substring(eq + 1));
+        }
+        return opt;
+    }
+
+    private void run() throws Exception {
+        Process app = startApp();
+        try {
+            tokens = login(Integer.parseInt(opt.getOrDefault("sessions", "200")));
+            int duration = Integer.parseInt(opt.getOrDefault("duration", "30"));
+            int warmup = Integer.parseInt(opt.getOrDefault("warmup", "10"));
+            Path out = Path.of(opt.getOrDefault("out", "build/reports/loadtest"));
+            Files.createDirectories(out);
+
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("target %s (users %d, posts %d), server virtual threads=%s%n",
+                    target.baseUrl(), target.users(), target.posts(), opt.getOrDefault("virtual", "true")));
+            SplittableRandom random = new SplittableRandom(Long.parseLong(opt.getOrDefault("seed", "42")));
+            for (String r : opt.getOrDefault("rates", "50,100,200").split(",")) {
+                double rate = Double.parseDouble(r.trim());
+                if (warmup > 0) stage(rate, warmup, random);
+                Map<String, EndpointStats> stats = stage(rate, duration, random);
+                String section = report(rate, duration, stats, out);
+                System.out.print(section);
+                report.append(section);
+            }
+            Files.writeString(out.resolve("report.txt"), report.toString());
+            System.out.println("report: " + out.resolve("report.txt").toAbsolutePath());
+        } finally {
+            app.getOutputStream().close();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) app.destroyForcibly();
+        }
+    }
+
+    /** LoadTestApp을 같은 클래스패스로 띄우고 준비 줄을 기다린다 (이후 출력은 [app] 접두어로 전달) */
+    private Process startApp() throws Exception {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + opt.getOrDefault("appHeap", "1g"),
+                "-cp", System.getProperty("java.class.path"),
+                LoadTestApp.class.getName()));
+        opt.forEach((k, v) -> command.add(k + "=" + v));
+        Process app = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(app.getInputStream(), StandardCharsets.UTF_8));
+        CompletableFuture<Target> ready = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                for (String line; (line = lines.readLine()) != null; ) {
+                    if (line.startsWith(LoadTestApp.READY)) ready.complete(parseReady(line));
+                    else System.out.println("[app] " + line);
+                }
+            } catch (IOException ignored) {
+                // 종료 시 스트림이 닫힌다
+            }
+            ready.completeExceptionally(new IllegalStateException("load test app exited before ready"));
+        });
+        System.out.println("starting app and seeding data...");
+        target = ready.get(10, TimeUnit.MINUTES);
+        System.out.println("app ready: " + target);
+        return app;
+    }
+
+    private static Target parseReady(String line) {
+        Map<String, String> f = options(line.substring(LoadTestApp.READY.length()).trim().split(" "));
+        return new Target("http://localhost:" + f.get("port"),
+                Integer.parseInt(f.get("firstUserId")), Integer.parseInt(f.get("users")),
+                Integer.parseInt(f.get("firstPostId")), Integer.parseInt(f.get("posts")));
+    }
+
+    /** 측정 전에 세션용 Access Token을 받아 둔다 (측정에는 포함하지 않음) */
+    private List<String> login(int sessions) throws Exception {
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int n = 0; n < Math.min(sessions, target.users()); n++) {
+            int userId = target.firstUserId() + n;
+            futures.add(client.sendAsync(loginRequest(userId), HttpResponse.BodyHandlers.ofString())
+                    .thenApply(res -> {
+                        if (res.statusCode() != 200) throw new IllegalStateException("login failed: " + res.body());
+                        try {
+                            return JSON.readTree(res.body()).path("data").path("accessToken").asText();
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }));
+        }
+        List<String> out = new ArrayList<>();
+        for (CompletableFuture<String> f : futures) out.add(f.get());
+        return out;
+    }
+
+    /** 도착률 rate로 seconds 동안 요청을 보내고 모두 끝날 때까지 기다린다 */
+    private Map<String, EndpointStats> stage(double rate, int seconds, SplittableRandom random) throws InterruptedException {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (Op op : Op.values()) stats.put(op.endpoint, new EndpointStats(op.endpoint));
+        int maxInFlight = Integer.parseInt(opt.getOrDefault("maxInFlight", "10000"));
+        AtomicInteger inFlight = new AtomicInteger();
+
+        double meanGapNanos = 1e9 / rate;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            Op op = pick(random);
+            HttpRequest request = request(op, random);
+            EndpointStats s = stats.get(op.endpoint);
+            long intended = next;
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                s.dropped();
+            } else {
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        execute(request, intended, s);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+            next += (long) (-Math.log(1.0 - random.nextDouble()) * meanGapNanos);
+        }
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) Thread.sleep(10);
+        return stats;
+    }
+
+    private void execute(HttpRequest request, long intendedNanos, EndpointStats stats) {
+        try {
+            HttpResponse<Void> res = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos);
+            if (res.statusCode() < 400) stats.success(micros);
+            else stats.failure(String.valueOf(res.statusCode()), micros);
+        } catch (HttpTimeoutException e) {
+            stats.failure("timeout", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos));
+        } catch (IOException e) {
+            stats.failure(e.getClass().getSimpleName(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Op pick(SplittableRandom random) {
+        int r = random.nextInt(100);
+        for (Op op : Op.values()) {
+            if (r < op.weight) return op;
+            r -= op.weight;
+        }
+        return Op.DETAIL;
+    }
+
+    private HttpRequest request(Op op, SplittableRandom random) {
+        // 인기 게시글에 몰리도록 앞쪽 id에 치우치게 선택
+        double r = random.nextDouble();
+        int postId = target.firstPostId() + (int) (target.posts() * r * r * r);
+        String token = tokens.get(random.nextInt(tokens.size()));
+        int page = random.nextInt(5);
+        return switch (op) {
+            case LOGIN -> loginRequest(target.firstUserId() + random.nextInt(target.users()));
+            case LIST_LATEST -> get("/posts?sort=LATEST&size=10&page=" + page, random.nextBoolean() ? token : null);
+            case LIST_POPULAR -> get("/posts?sort=POPULAR&size=10&page=" + page, random.nextBoolean() ? token : null);
+            case LIST_VIEW -> get("/posts?sort=VIEW&size=10&page=" + page, random.nextBoolean() ? token : null);
+            case DETAIL -> get("/posts/" + postId, random.nextBoolean() ? token : null);
+            case COMMENTS -> get("/posts/" + postId + "/comments", null);
+            case LIKE_TOGGLE -> post("/posts/" + postId + "/like", "", token);
+            case COMMENT -> post("/posts/" + postId + "/comments",
+                    "{\"content\":\"부하 테스트 댓글 " + random.nextInt(1_000_000) + "\"}", token);
+        };
+    }
+
+    private HttpRequest loginRequest(int userId) {
+        return post("/users/login", "{\"email\":\"seed" + userId + "@example.com\",\"password\":\"" + PASSWORD + "\"}", null);
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(target.baseUrl() + path)).timeout(Duration.ofSeconds(10)).GET();
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        return b.build();
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(target.baseUrl() + path)).timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8));
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        return b.build();
+    }
+
+    /** 엔드포인트별 백분위 표 + 오류 종류, 엔드포인트별 .hgrm(백분위 분포) 파일 */
+    private static String report(double rate, int seconds, Map<String, EndpointStats> stats, Path out) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        long total = stats.values().stream().mapToLong(EndpointStats::requests).sum();
+        sb.append(String.format("%n== arrival rate %.0f/s, %ds: %d requests (%.1f/s)%n", rate, seconds, total, (double) total / seconds));
+        sb.append(String.format("%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Histogram all = new Histogram(3);
+        List<String> errorLines = new ArrayList<>();
+        for (EndpointStats s : stats.values()) {
+            Histogram h = s.takeHistogram();
+            all.add(h);
+            sb.append(row(s.name, s.requests(), s.failures(), h));
+            s.errorKinds().forEach((kind, count) -> errorLines.add(String.format("  %s: %s x%d", s.name, kind, count)));
+            writeDistribution(out.resolve(String.format("rate-%.0f_%s.hgrm", rate, s.name.replaceAll("[^A-Za-z0-9]+", "_"))), h);
+        }
+        long failures = stats.values().stream().mapToLong(EndpointStats::failures).sum();
+        sb.append(row("ALL", total, failures, all));
+        if (!errorLines.isEmpty()) sb.append("errors:").append(System.lineSeparator()).append(String.join(System.lineSeparator(), errorLines)).append(System.lineSeparator());
+        return sb.toString();
+    }
+
+    private static String row(String name, long count, long failures, Histogram h) {
+        return String.format("%-28s %8d %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, count,
+                count == 0 ? 0.0 : 100.0 * failures / count,
+                ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()));
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static void writeDistribution(Path file, Histogram h) throws IOException {
+        try (PrintStream ps = new PrintStream(Files.newOutputStream(file), true, StandardCharsets.UTF_8)) {
+            h.outputPercentileDistribution(ps, 1000.0);
+        }
+    }
+}
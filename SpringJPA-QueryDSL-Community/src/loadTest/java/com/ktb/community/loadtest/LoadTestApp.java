@@ -0,0 +1,57 @@
+package com.ktb.community.loadtest;
+
+import com.ktb.community.CommunityApplication;
+import com.ktb.community.search.PostSearchIndexer;
+import com.ktb.community.seed.DatasetGenerator;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 부하 테스트 대상 애플리케이션 (LoadTest가 별도 JVM으로 띄운다)
+ * - H2 인메모리(MySQL 모드) + DatasetGenerator로 합성 데이터 적재 후 검색 색인 재구축
+ * - 준비되면 표준 출력에 "LOADTEST-READY ..." 한 줄 (포트, 적재된 id 구간), 표준 입력이 닫히면 종료
+ */
+public final class LoadTestApp {
+    static final String READY = "LOADTEST-READY";
+
+    private LoadTestApp() { }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opt = LoadTest.options(args);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(CommunityApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + opt.getOrDefault("virtual", "true"),
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "logging.level.root=WARN",
+                        "aws.s3.bucket-name=loadtest", "aws.s3.region=ap-northeast-2",
+                        "aws.s3.access-key=loadtest", "aws.s3.secret-key=loadtest")
+                .run();
+
+        DatasetGenerator.Result seeded = context.getBean(DatasetGenerator.class).generate(new DatasetGenerator.Plan(
+                Integer.parseInt(opt.getOrDefault("users", "2000")),
+                Integer.parseInt(opt.getOrDefault("posts", "20000")),
+                Integer.parseInt(opt.getOrDefault("comments", "100000")),
+                Integer.parseInt(opt.getOrDefault("likesPerUser", "10")),
+                3, 1.1,
+                Long.parseLong(opt.getOrDefault("seed", "42")),
+                365, LocalDate.now().atStartOfDay()));
+        context.getBean(PostSearchIndexer.class).rebuild();
+
+        System.out.println(READY
+                + " port=" + context.getEnvironment().getProperty("local.server.port")
+                + " firstUserId=" + seeded.firstUserId() + " users=" + seeded.users()
+                + " firstPostId=" + seeded.firstPostId() + " posts=" + seeded.posts());
+        System.out.flush();
+
+        // 부모(LoadTest)가 끝나면 표준 입력이 닫힌다
+        while (System.in.read() >= 0) { }
+        context.close();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,14 @@
+package com.ktb.community.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화 - 실행기는 Spring Boot 기본 applicationTaskExecutor
+ * - spring.threads.virtual.enabled=true: Tomcat 요청 처리, @Async, @Scheduled 모두 가상 스레드에서 실행
+ *   (요청마다 JDBC/S3 대기가 길어도 플랫폼 스레드 수(기본 200)에 막히지 않는다)
+ * - 가상 스레드에서는 동시 요청 수가 커넥션 풀 크기를 크게 넘으므로 DB 접근은 ConnectionLimitConfig가 제한
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig { }
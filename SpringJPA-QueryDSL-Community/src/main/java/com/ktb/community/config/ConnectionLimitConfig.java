@@ -0,0 +1,120 @@
+package com.ktb.community.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 커넥션 동시 사용 상한 (세마포어)
+ * - 가상 스레드 모드에서는 수천 개 요청이 동시에 Hikari 풀로 몰린다. 풀 안에서 경합시키는 대신
+ *   공정(FIFO) 세마포어 앞에서 기다리게 해 도착 순서대로 커넥션을 받고, 대기 시간이 지나면 바로 실패시킨다
+ * - 이미 커넥션을 쥔 스레드가 하나 더 받는 경우(id 구간 예약 등)는 별도 허가(db.nested-connections, 기본 1)를 쓴다.
+ *   같은 허가를 나눠 쓰면 커넥션을 쥔 채 두 번째를 기다리는 스레드들로 허가가 바닥나 교착된다
+ * - db.max-concurrent-connections: 기본값은 Hikari maximumPoolSize - db.nested-connections
+ *   (풀 크기 권장치는 코어 수 × 2 정도. 가상 스레드 수에 맞춰 풀을 키우지 않는다)
+ * - db.acquire-timeout-ms: 기본값은 Hikari connectionTimeout
+ * - spring.threads.virtual.enabled=true일 때만 적용 - 플랫폼 스레드 모드는 요청 스레드 수(기본 200)가 이미 상한이므로
+ *   세마포어와 커넥션 래퍼 비용 없이 Hikari 풀을 그대로 쓴다
+ */
+@Configuration
+public class ConnectionLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public static BeanPostProcessor connectionLimitPostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) return bean;
+                int nested = env.getProperty("db.nested-connections", Integer.class, 1);
+                int permits = env.getProperty("db.max-concurrent-connections", Integer.class, hikari.getMaximumPoolSize() - nested);
+                long timeoutMs = env.getProperty("db.acquire-timeout-ms", Long.class, hikari.getConnectionTimeout());
+                return new ConnectionLimitingDataSource(hikari, permits, nested, timeoutMs);
+            }
+        };
+    }
+
+    /**
+     * getConnection 전에 허가를 받고, 커넥션 close 때 반납
+     * - 스레드가 이미 쥔 커넥션 수를 세어, 두 번째부터는 nested 허가에서 받는다 (nested가 0이면 같은 허가)
+     */
+    static class ConnectionLimitingDataSource extends DelegatingDataSource {
+        private final Semaphore permits;
+        private final Semaphore nestedPermits;
+        private final long timeoutMs;
+        private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+        ConnectionLimitingDataSource(DataSource target, int permits, long timeoutMs) {
+            this(target, permits, 0, timeoutMs);
+        }
+
+        ConnectionLimitingDataSource(DataSource target, int permits, int nestedPermits, long timeoutMs) {
+            super(target);
+            this.permits = new Semaphore(Math.max(permits, 1), true);
+            this.nestedPermits = nestedPermits > 0 ? new Semaphore(nestedPermits, true) : this.permits;
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            AtomicInteger count = held.get();
+            Semaphore s = acquire(count);
+            try {
+                return releasing(super.getConnection(), s, count);
+            } catch (SQLException | RuntimeException e) {
+                release(s, count);
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            AtomicInteger count = held.get();
+            Semaphore s = acquire(count);
+            try {
+                return releasing(super.getConnection(username, password), s, count);
+            } catch (SQLException | RuntimeException e) {
+                release(s, count);
+                throw e;
+            }
+        }
+
+        int availablePermits() { return permits.availablePermits(); }
+        int availableNestedPermits() { return nestedPermits.availablePermits(); }
+
+        private Semaphore acquire(AtomicInteger count) throws SQLException {
+            Semaphore s = count.get() > 0 ? nestedPermits : permits;
+            try {
+                if (!s.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException("connection limit reached, waited " + timeoutMs + "ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("interrupted while waiting for connection", e);
+            }
+            count.incrementAndGet();
+            return s;
+        }
+
+        private static void release(Semaphore s, AtomicInteger count) {
+            count.decrementAndGet();
+            s.release();
+        }
+
+        private Connection releasing(Connection target, Semaphore s, AtomicInteger count) {
+            return new PermitReleasingConnection(target, () -> release(s, count));
+        }
+    }
+}
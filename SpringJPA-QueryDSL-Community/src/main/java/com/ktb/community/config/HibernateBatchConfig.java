@@ -0,0 +1,23 @@
+package com.ktb.community.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 쓰기 기본값 (application.yml의 spring.jpa.properties.hibernate.* 값이 있으면 그쪽이 우선)
+ * - 같은 엔티티의 INSERT/UPDATE를 모아(order_*) batch_size 단위로 한 번에 전송
+ * - MySQL은 URL에 rewriteBatchedStatements=true를 주면 배치를 다중 행 INSERT 하나로 합친다
+ */
+@Configuration
+public class HibernateBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return props -> {
+            props.putIfAbsent("hibernate.jdbc.batch_size", 50);
+            props.putIfAbsent("hibernate.order_inserts", true);
+            props.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.ktb.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 전체에서 공유하는 S3 클라이언트
+ * - 커넥션 풀/TLS 세션/자격증명을 재사용하고, 종료 시 컨테이너가 close() 호출
+ * - aws.s3.endpoint 지정 시 로컬 S3 호환 스토리지(MinIO, LocalStack 등)로 연결 (path-style)
+ * - 멀티파트 업로드의 part 읽기는 전용 스레드 풀에서 (SDK 완료 콜백 스레드에서 블로킹 IO를 하지 않도록)
+ */
+@Configuration
+public class S3Config {
+    private final Region region;
+    private final AwsCredentialsProvider credentials;
+    private final String endpoint;
+
+    public S3Config(@Value("${aws.s3.region}") String region,
+                    @Value("${aws.s3.access-key}") String accessKey,
+                    @Value("${aws.s3.secret-key}") String secretKey,
+                    @Value("${aws.s3.endpoint:}") String endpoint) {
+        this.region = Region.of(region);
+        this.credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+        this.endpoint = endpoint;
+    }
+
+    @Bean
+    public S3Client s3Client() {
+        var builder = S3Client.builder().region(region).credentialsProvider(credentials);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        var builder = S3AsyncClient.builder().region(region).credentialsProvider(credentials);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 멀티파트 업로드 part 읽기 전용 실행기 - 스레드 수는 aws.s3.multipart.read-threads로 제한
+     * - 업로드마다 동시에 하나의 part만 읽으므로 대기 작업도 진행 중인 업로드 수를 넘지 않는다
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService s3PartReadExecutor(@Value("${aws.s3.multipart.read-threads:4}") int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, "s3-part-read-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
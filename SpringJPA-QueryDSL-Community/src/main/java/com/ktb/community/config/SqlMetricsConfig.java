@@ -0,0 +1,51 @@
+package com.ktb.community.config;
+
+import com.ktb.community.filter.RequestStats;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 훅으로 요청별 SQL 수/JDBC 시간을 RequestStats에 기록
+ * - StatementInspector: 문장 준비 시마다 1 (배치는 문장 하나로 센다)
+ * - SessionEventListener(세션마다 새 인스턴스): 단건/배치 실행 시간
+ * - JdbcTemplate로 직접 실행한 SQL은 포함되지 않는다
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMetricsCustomizer() {
+        return props -> {
+            props.put("hibernate.session_factory.statement_inspector", new CountingStatementInspector());
+            props.put("hibernate.session.events.auto", JdbcTimingListener.class.getName());
+        };
+    }
+
+    static class CountingStatementInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            RequestStats.statementPrepared();
+            return sql;
+        }
+    }
+
+    public static class JdbcTimingListener implements SessionEventListener {
+        private long executeStarted;
+        private long batchStarted;
+
+        @Override
+        public void jdbcExecuteStatementStart() { executeStarted = System.nanoTime(); }
+
+        @Override
+        public void jdbcExecuteStatementEnd() { RequestStats.jdbcTime(System.nanoTime() - executeStarted); }
+
+        @Override
+        public void jdbcExecuteBatchStart() { batchStarted = System.nanoTime(); }
+
+        @Override
+        public void jdbcExecuteBatchEnd() { RequestStats.jdbcTime(System.nanoTime() - batchStarted); }
+    }
+}
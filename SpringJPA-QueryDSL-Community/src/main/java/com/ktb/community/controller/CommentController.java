@@ -3,6 +3,9 @@ package com.ktb.community.controller;
 import com.ktb.community.domain.Comment;
 import com.ktb.community.dto.ApiResponse;
 import com.ktb.community.dto.CommentDtos.*;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.filter.AuthLevel;
+import com.ktb.community.filter.AuthPolicy;
 import com.ktb.community.service.CommentService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,19 +13,24 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/posts/{postId}/comments")
 public class CommentController {
     private final CommentService comments;
     public CommentController(CommentService comments) { this.comments = comments; }
 
+    @AuthPolicy(AuthLevel.PUBLIC)
     @GetMapping
-    public ResponseEntity<?> list(@PathVariable Integer postId) {
-        List<Comment> list = comments.list(postId);
+    public ResponseEntity<?> list(@PathVariable Integer postId,
+                                  @RequestParam(required=false) String cursor,
+                                  @RequestParam(required=false) Integer limit) {
+        CursorPage<CommentItem> page = comments.list(postId, cursor, limit);
+        java.util.Map<String, Object> pagination = new java.util.HashMap<>();
+        pagination.put("total_count", page.getTotalCount());
+        pagination.put("nextCursor", page.getNextCursor());
+        pagination.put("hasNext", page.hasNext());
         return ResponseEntity.ok(new ApiResponse<>("get_comments_success",
-                java.util.Map.of("comments", list, "pagination", java.util.Map.of("total_count", list.size()))));
+                java.util.Map.of("comments", page.getContent(), "pagination", pagination)));
     }
 
     @PostMapping
@@ -30,12 +38,6 @@ public class CommentController {
                                     HttpServletRequest request,
                                     @RequestBody @Validated CreateCommentRequest req) {
         Integer userId = (Integer) request.getAttribute("userId");
-        System.out.println("=== Comment Create Debug ===");
-        System.out.println("postId: " + postId);
-        System.out.println("userId: " + userId);
-        System.out.println("content: " + req.content());
-        System.out.println("=== End Debug ===");
-        
         Comment c = comments.create(userId, postId, req);
         return ResponseEntity.status(HttpStatus.CREATED).body(new ApiResponse<>("create_comment_success",
                 java.util.Map.of("commentId", c.getId(), "content", c.getContent())));
@@ -2,7 +2,10 @@ package com.ktb.community.controller;
 
 import com.ktb.community.domain.Post;
 import com.ktb.community.dto.ApiResponse;
+import com.ktb.community.dto.CursorPage;
 import com.ktb.community.dto.PostDtos.*;
+import com.ktb.community.filter.AuthLevel;
+import com.ktb.community.filter.AuthPolicy;
 import com.ktb.community.service.PostService;
 import com.ktb.community.service.S3Service;
 import org.springframework.http.HttpStatus;
@@ -13,6 +16,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/posts")
 public class PostController {
@@ -24,28 +30,57 @@ public class PostController {
         this.s3Service = s3Service;
     }
 
+    @AuthPolicy(AuthLevel.OPTIONAL)
     @GetMapping
-    public ResponseEntity<?> list(@RequestParam(required=false) String query,
+    public ResponseEntity<?> list(HttpServletRequest request,
+                                  @RequestParam(required=false) String query,
                                   @RequestParam(required=false) Integer authorId,
                                   @RequestParam(required=false) Boolean hasImage,
                                   @RequestParam(required=false) java.time.LocalDateTime from,
                                   @RequestParam(required=false) java.time.LocalDateTime to,
                                   @RequestParam(defaultValue = "0") int page,
                                   @RequestParam(defaultValue = "10") int size,
-                                  @RequestParam(defaultValue = "LATEST") String sort) {
-        Page<Post> result = posts.search(query, authorId, hasImage, from, to, page, size, sort);
+                                  @RequestParam(defaultValue = "LATEST") String sort,
+                                  @RequestParam(required=false) String cursor,
+                                  @RequestParam(defaultValue = "false") boolean withTotal) {
+        // 토큰이 있으면 목록의 좋아요 여부까지 채운다
+        Integer userId = (Integer) request.getAttribute("userId");
+        // cursor 파라미터가 있으면 커서 모드 (첫 페이지는 cursor= 빈 값)
+        if (cursor != null) {
+            CursorPage<PostSummary> slice = posts.searchByCursor(userId, query, authorId, hasImage, from, to, cursor, size, sort, withTotal);
+            java.util.Map<String, Object> pagination = new java.util.HashMap<>();
+            pagination.put("nextCursor", slice.getNextCursor());
+            pagination.put("hasNext", slice.hasNext());
+            if (slice.getTotalCount() != null) pagination.put("total_count", slice.getTotalCount());
+            return ResponseEntity.ok(new ApiResponse<>("get_posts_success", java.util.Map.of(
+                    "posts", slice.getContent(),
+                    "pagination", pagination
+            )));
+        }
+        Page<PostSummary> result = posts.search(userId, query, authorId, hasImage, from, to, page, size, sort);
         return ResponseEntity.ok(new ApiResponse<>("get_posts_success", java.util.Map.of(
                 "posts", result.getContent(),
                 "pagination", java.util.Map.of("total_count", result.getTotalElements())
         )));
     }
 
+    /**
+     * 실시간 인기글 (최근 활동 기반, 지수 감쇠 점수 순)
+     */
+    @AuthPolicy(AuthLevel.PUBLIC)
+    @GetMapping("/trending")
+    public ResponseEntity<?> trending(@RequestParam(defaultValue = "10") int limit) {
+        List<PostSummary> list = posts.trending(Math.min(Math.max(limit, 1), 100));
+        return ResponseEntity.ok(new ApiResponse<>("get_trending_posts_success", java.util.Map.of("posts", list)));
+    }
+
+    @AuthPolicy(AuthLevel.OPTIONAL)
     @GetMapping("/{postId}")
     public ResponseEntity<?> detail(@PathVariable Integer postId,
                                     HttpServletRequest request,
                                     @RequestParam(defaultValue = "true") boolean increaseView) {
         Integer userId = (Integer) request.getAttribute("userId");
-        Post p = posts.getWithLikeStatus(userId, postId, increaseView);
+        PostDetail p = posts.detail(userId, postId, increaseView);
         return ResponseEntity.ok(new ApiResponse<>("get_post_detail_success", p));
     }
 
@@ -58,37 +93,38 @@ public class PostController {
     }
 
     @PostMapping("/upload-image")
-    public ResponseEntity<?> uploadImage(HttpServletRequest request,
-                                         @RequestParam("file") MultipartFile file) {
+    public CompletableFuture<ResponseEntity<?>> uploadImage(HttpServletRequest request,
+                                                            @RequestParam("file") MultipartFile file) {
         Integer userId = (Integer) request.getAttribute("userId");
         if (userId == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(new ApiResponse<>("unauthorized", java.util.Map.of("error", "로그인이 필요합니다.")));
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ApiResponse<>("unauthorized", java.util.Map.of("error", "로그인이 필요합니다."))));
         }
-        try {
-            // 파일 유효성 검사
-            if (file.isEmpty()) {
-                return ResponseEntity.badRequest()
-                        .body(new ApiResponse<>("upload_failed", java.util.Map.of("error", "파일이 비어있습니다.")));
-            }
-            
-            // 이미지 파일 타입 검사
-            String contentType = file.getContentType();
-            if (contentType == null || !contentType.startsWith("image/")) {
-                return ResponseEntity.badRequest()
-                        .body(new ApiResponse<>("upload_failed", java.util.Map.of("error", "이미지 파일만 업로드 가능합니다.")));
-            }
-            
-            // S3에 이미지 업로드
-            String imageUrl = s3Service.uploadImage(file);
-            
-            return ResponseEntity.ok(new ApiResponse<>("upload_success", java.util.Map.of("imageUrl", imageUrl)));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse<>("upload_failed", java.util.Map.of("error", e.getMessage())));
+        // 파일 유효성 검사
+        if (file.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(new ApiResponse<>("upload_failed", java.util.Map.of("error", "파일이 비어있습니다."))));
         }
+
+        // 이미지 파일 타입 검사
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(new ApiResponse<>("upload_failed", java.util.Map.of("error", "이미지 파일만 업로드 가능합니다."))));
+        }
+
+        // S3에 이미지 비동기 업로드 (완료 시 응답, 요청 스레드는 반환)
+        return s3Service.uploadImageAsync(file)
+                .<ResponseEntity<?>>thenApply(imageUrl ->
+                        ResponseEntity.ok(new ApiResponse<>("upload_success", java.util.Map.of("imageUrl", imageUrl))))
+                .exceptionally(e -> {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ApiResponse<>("upload_failed", java.util.Map.of("error", String.valueOf(cause.getMessage()))));
+                });
     }
 
+
     @PatchMapping("/{postId}")
     public ResponseEntity<?> update(@PathVariable Integer postId,
                                     HttpServletRequest request,
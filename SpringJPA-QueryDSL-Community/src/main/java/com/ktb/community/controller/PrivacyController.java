@@ -1,5 +1,7 @@
 package com.ktb.community.controller;
 
+import com.ktb.community.filter.AuthLevel;
+import com.ktb.community.filter.AuthPolicy;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,6 +9,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Controller
 public class PrivacyController {
     
+    @AuthPolicy(AuthLevel.PUBLIC)
     @GetMapping("/privacy")
     public String privacyPolicy(Model model) {
         return "privacy";
@@ -3,6 +3,8 @@ package com.ktb.community.controller;
 import com.ktb.community.domain.User;
 import com.ktb.community.dto.ApiResponse;
 import com.ktb.community.dto.UserDtos.*;
+import com.ktb.community.filter.AuthLevel;
+import com.ktb.community.filter.AuthPolicy;
 import com.ktb.community.service.UserService;
 import com.ktb.community.service.S3Service;
 import com.ktb.community.util.JwtUtil;
@@ -26,12 +28,14 @@ public class UserController {
         this.jwtUtil = jwtUtil;
     }
 
+    @AuthPolicy(AuthLevel.PUBLIC)
     @PostMapping("/signup")
     public ResponseEntity<?> signup(@RequestBody @Validated SignupRequest req) {
         User u = users.signup(req);
         return ResponseEntity.ok(new ApiResponse<>("register_success", java.util.Map.of("userId", u.getId())));
     }
 
+    @AuthPolicy(AuthLevel.PUBLIC)
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody @Validated LoginRequest req) {
         try {
@@ -106,6 +110,7 @@ public class UserController {
         }
     }
 
+    @AuthPolicy(AuthLevel.PUBLIC)
     @PostMapping("/upload-profile-image-public")
     public ResponseEntity<?> uploadProfileImagePublic(@RequestParam("file") MultipartFile file) {
         try {
@@ -169,6 +174,7 @@ public class UserController {
         }
     }
 
+    @AuthPolicy(AuthLevel.PUBLIC)
     @PostMapping("/refresh")
     public ResponseEntity<?> refreshToken(@RequestBody java.util.Map<String, String> request) {
         try {
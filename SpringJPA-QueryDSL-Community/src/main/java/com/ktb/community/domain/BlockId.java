@@ -0,0 +1,18 @@
+package com.ktb.community.domain;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * PK를 IdBlockAllocator가 미리 예약한 구간에서 발급 (IDENTITY 대체)
+ * - IDENTITY는 INSERT를 실행해야 키를 알 수 있어 Hibernate가 JDBC 배치를 끈다
+ * - 구간 이름은 엔티티 테이블명 (id_generators의 한 행)
+ */
+@IdGeneratorType(BlockIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface BlockId { }
@@ -0,0 +1,43 @@
+package com.ktb.community.domain;
+
+import com.ktb.community.util.IdBlockAllocator;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * @BlockId 처리기 - INSERT 전에 id를 정하므로 같은 엔티티의 INSERT를 배치로 묶을 수 있다
+ * - 할당기는 Spring 싱글턴 빈. 빈이 Hibernate 설정(IdBlockAllocator.SETTING)에 넣어 둔 인스턴스를 그대로 쓴다
+ */
+public class BlockIdGenerator implements BeforeExecutionGenerator {
+    private final String table;
+    private final String idColumn;
+    private final IdBlockAllocator allocator;
+
+    public BlockIdGenerator(BlockId config, Member member, CustomIdGeneratorCreationContext context) {
+        this.table = context.getPersistentClass().getTable().getName();
+        this.idColumn = context.getProperty().getColumns().get(0).getName();
+        Object bean = context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSettings().get(IdBlockAllocator.SETTING);
+        if (!(bean instanceof IdBlockAllocator a)) {
+            throw new IllegalStateException("IdBlockAllocator bean is not registered (" + IdBlockAllocator.SETTING + ")");
+        }
+        this.allocator = a;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return Math.toIntExact(allocator.next(table, idColumn));
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() { return EventTypeSets.INSERT_ONLY; }
+
+    IdBlockAllocator allocator() { return allocator; }
+}
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 @Table(name = "comments",
        indexes = { @Index(name="idx_comments_post_pub", columnList = "post_id,published_at") })
 public class Comment {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @BlockId
     @Column(name="comment_id", columnDefinition="int unsigned")
     private Integer id;
 
@@ -0,0 +1,25 @@
+package com.ktb.community.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * id_generators - 테이블별 다음 id 구간 시작 값 (IdBlockAllocator가 JDBC로 읽고 쓴다)
+ * - 엔티티로 매핑해 두는 것은 스키마 관리(ddl-auto/DDL 추출)에 테이블을 포함시키기 위해서
+ */
+@Entity
+@Table(name = IdGenerator.TABLE)
+public class IdGenerator {
+    public static final String TABLE = "id_generators";
+
+    @Id
+    @Column(name="gen_name", length=64)
+    private String name;
+
+    @Column(name="next_val", nullable=false)
+    private long nextVal;
+
+    public IdGenerator() { }
+
+    public String getName() { return name; }
+    public long getNextVal() { return nextVal; }
+}
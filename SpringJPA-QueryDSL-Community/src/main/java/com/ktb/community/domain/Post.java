@@ -1,16 +1,28 @@
 package com.ktb.community.domain;
 
 import jakarta.persistence.*;
+import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+// 컬럼/인덱스 변경은 db/migration에도 DDL로 남긴다 (운영 DB는 ddl-auto로 스키마를 바꾸지 않는다)
 @Entity
 @Table(name = "posts",
-       indexes = { @Index(name="idx_posts_user_pub", columnList = "user_id,published_at") })
+       indexes = {
+           @Index(name="idx_posts_user_pub", columnList = "user_id,published_at"),
+           // 커서 페이지네이션 (정렬키, post_id) 탐색용
+           // - image_count를 뒤에 두어 hasImage 필터도 정렬 순서대로 인덱스만 읽으며 거른다
+           @Index(name="idx_posts_pub", columnList = "published_at,post_id,image_count"),
+           @Index(name="idx_posts_like", columnList = "like_count,post_id,image_count"),
+           @Index(name="idx_posts_view", columnList = "view_count,post_id")
+       })
 public class Post {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final int EXCERPT_LENGTH = 100;
+
+    @Id @BlockId
     @Column(name="post_id", columnDefinition="int unsigned")
     private Integer id;
 
@@ -21,10 +33,20 @@ public class Post {
     @Column(name="title", length=200, nullable=false)
     private String title;
 
-    @Lob
     @Column(name="content", nullable=false, columnDefinition="longtext")
     private String content;
 
+    // 목록 조회용 본문 요약 (본문 저장 시 함께 계산)
+    @Column(name="excerpt", length=EXCERPT_LENGTH)
+    private String excerpt;
+
+    // 목록용 비정규화 컬럼 (이미지 저장/수정 시 함께 갱신) - hasImage 필터와 썸네일을 post_images 조회 없이 처리
+    @Column(name="image_count", nullable=false, columnDefinition="int unsigned default 0")
+    private Integer imageCount = 0;
+
+    @Column(name="thumbnail_url", length=512)
+    private String thumbnailUrl;
+
     @Column(name="is_deleted", nullable=false)
     private boolean deleted = false;
 
@@ -37,13 +59,14 @@ public class Post {
     @Column(name="updated_at", nullable=false)
     private LocalDateTime updatedAt;
 
-    @Column(name="view_count", nullable=false, columnDefinition="int unsigned")
+    // 카운터는 원자적 UPDATE(x = x + ?)로만 바뀐다 - 엔티티 저장 시 읽어 둔 값으로 덮어쓰지 않도록 UPDATE에서 제외
+    @Column(name="view_count", nullable=false, updatable=false, columnDefinition="int unsigned")
     private Integer viewCount = 0;
 
-    @Column(name="like_count", nullable=false, columnDefinition="int unsigned")
+    @Column(name="like_count", nullable=false, updatable=false, columnDefinition="int unsigned")
     private Integer likeCount = 0;
 
-    @Column(name="comment_count", nullable=false, columnDefinition="int unsigned")
+    @Column(name="comment_count", nullable=false, updatable=false, columnDefinition="int unsigned")
     private Integer commentCount = 0;
 
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -70,13 +93,41 @@ public class Post {
         }
     }
 
+    /**
+     * 본문 앞부분 요약 (NFKC 정규화, 공백 정리 후 EXCERPT_LENGTH자, 서로게이트 쌍은 자르지 않음)
+     */
+    public static String excerptOf(String content) {
+        if (content == null) return null;
+        String s = Normalizer.normalize(content, Normalizer.Form.NFKC).strip().replaceAll("\\s+", " ");
+        if (s.length() <= EXCERPT_LENGTH) return s;
+        int end = EXCERPT_LENGTH;
+        if (Character.isHighSurrogate(s.charAt(end - 1))) end--;
+        return s.substring(0, end);
+    }
+
+    /**
+     * 일괄 조회한 이미지를 붙인다 - 지연 로딩 컬렉션을 초기화하지 않고 교체하므로
+     * 영속성 컨텍스트에서 분리(detach)된 읽기 전용 엔티티에만 사용한다
+     */
+    public void attachImages(List<PostImage> loaded) { this.images = new ArrayList<>(loaded); }
+
     public Integer getId() { return id; }
     public User getAuthor() { return author; }
     public void setAuthor(User author) { this.author = author; }
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
     public String getContent() { return content; }
-    public void setContent(String content) { this.content = content; }
+    public void setContent(String content) { this.content = content; this.excerpt = excerptOf(content); }
+    @JsonIgnore
+    public String getExcerpt() { return excerpt; }
+    @JsonIgnore
+    public Integer getImageCount() { return imageCount; }
+    @JsonIgnore
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    /** 이미지 목록이 바뀔 때 호출 - 썸네일은 sort_order 1번 이미지 */
+    public void setImageStats(int imageCount, String thumbnailUrl) {
+        this.imageCount = imageCount; this.thumbnailUrl = thumbnailUrl;
+    }
     public boolean isDeleted() { return deleted; }
     public void setDeleted(boolean deleted) { this.deleted = deleted; }
     public LocalDateTime getDeletedAt() { return deletedAt; }
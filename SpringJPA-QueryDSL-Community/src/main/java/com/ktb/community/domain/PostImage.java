@@ -9,7 +9,7 @@ import java.time.LocalDateTime;
        uniqueConstraints = @UniqueConstraint(name="uq_post_images_sort", columnNames = {"post_id","sort_order"}),
        indexes = @Index(name="idx_post_images_post", columnList = "post_id"))
 public class PostImage {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @BlockId
     @Column(name="image_id", columnDefinition="int unsigned")
     private Integer id;
 
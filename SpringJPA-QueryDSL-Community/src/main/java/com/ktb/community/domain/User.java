@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
            @UniqueConstraint(name="uq_users_nickname", columnNames = "nickname")
        })
 public class User {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @BlockId
     @Column(name="user_id", columnDefinition="int unsigned")
     private Integer id;
 
@@ -1,8 +1,33 @@
 package com.ktb.community.dto;
 
+import com.ktb.community.domain.Comment;
+import com.ktb.community.domain.User;
 import jakarta.validation.constraints.*;
 
+import java.time.LocalDateTime;
+
 public class CommentDtos {
     public record CreateCommentRequest(@NotBlank @Size(max=1000) String content) { }
     public record UpdateCommentRequest(@NotBlank @Size(max=1000) String content) { }
+
+    /**
+     * 댓글 목록 항목 (불변) - 동시 조회가 같은 결과를 공유하므로 엔티티 대신 사용
+     * - JSON 모양은 Comment 엔티티 직렬화와 같되 작성자 email은 내보내지 않는다
+     */
+    public record CommentItem(Integer id, CommentAuthor author, String content, boolean deleted,
+                              LocalDateTime deletedAt, LocalDateTime publishedAt, LocalDateTime updatedAt) {
+        public static CommentItem from(Comment c) {
+            return new CommentItem(c.getId(), CommentAuthor.from(c.getAuthor()), c.getContent(), c.isDeleted(),
+                    c.getDeletedAt(), c.getPublishedAt(), c.getUpdatedAt());
+        }
+    }
+
+    /** 댓글 작성자 - 공개 프로필만 (email, password 제외) */
+    public record CommentAuthor(Integer id, String nickname, String profileImageUrl, boolean deleted,
+                                LocalDateTime deletedAt, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        public static CommentAuthor from(User u) {
+            return new CommentAuthor(u.getId(), u.getNickname(), u.getProfileImageUrl(), u.isDeleted(),
+                    u.getDeletedAt(), u.getCreatedAt(), u.getUpdatedAt());
+        }
+    }
 }
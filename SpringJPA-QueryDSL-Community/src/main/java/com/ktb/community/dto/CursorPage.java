@@ -0,0 +1,17 @@
+package com.ktb.community.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final Long totalCount;
+    public CursorPage(List<T> content, String nextCursor, Long totalCount) {
+        this.content = content; this.nextCursor = nextCursor; this.totalCount = totalCount;
+    }
+    public List<T> getContent() { return content; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+    /** 요청한 경우에만 채워진다 (미요청 시 null) */
+    public Long getTotalCount() { return totalCount; }
+}
@@ -1,9 +1,48 @@
 package com.ktb.community.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class PostDtos {
     public record CreatePostRequest(@NotBlank String title, @NotBlank String content, String imageUrls) { }
     public record UpdatePostRequest(String title, String content, String imageUrls) { }
+
+    /** 목록(피드) 카드용 경량 조회 모델 - 본문 전체/이미지 컬렉션/작성자 이메일은 포함하지 않는다 */
+    public record AuthorSummary(Integer id, String nickname, String profileImageUrl) { }
+    /** 상세 조회 응답 - 캐시 스냅샷에 실시간 카운터와 조회자별 좋아요 여부를 덧씌운다 */
+    public record ImageSummary(Integer id, String imageUrl, Integer sortOrder) { }
+    public record PostDetail(Integer id, String title, String content, AuthorSummary author, List<ImageSummary> images,
+                             LocalDateTime publishedAt, LocalDateTime updatedAt,
+                             Integer viewCount, Integer likeCount, Integer commentCount,
+                             @JsonProperty("isLiked") boolean isLiked) {
+        public PostDetail withCounters(int views, int likes) {
+            return new PostDetail(id, title, content, author, images, publishedAt, updatedAt, views, likes, commentCount, isLiked);
+        }
+
+        public PostDetail withLiked(boolean liked) {
+            return new PostDetail(id, title, content, author, images, publishedAt, updatedAt, viewCount, likeCount, commentCount, liked);
+        }
+    }
+
+    public record PostSummary(Integer id, String title, String excerpt, AuthorSummary author,
+                              LocalDateTime publishedAt, Integer viewCount, Integer likeCount, Integer commentCount,
+                              String thumbnailUrl, @JsonProperty("isLiked") boolean isLiked) {
+        /** 쿼리 프로젝션용 - 좋아요 여부는 조회 후 withLiked로 채운다 */
+        public PostSummary(Integer id, String title, String excerpt, AuthorSummary author,
+                           LocalDateTime publishedAt, Integer viewCount, Integer likeCount, Integer commentCount,
+                           String thumbnailUrl) {
+            this(id, title, excerpt, author, publishedAt, viewCount, likeCount, commentCount, thumbnailUrl, false);
+        }
+
+        public PostSummary withLiked(boolean liked) {
+            if (liked == isLiked) return this;
+            return new PostSummary(id, title, excerpt, author, publishedAt, viewCount, likeCount, commentCount, thumbnailUrl, liked);
+        }
+
+        public PostSummary withExcerpt(String excerpt) {
+            return new PostSummary(id, title, excerpt, author, publishedAt, viewCount, likeCount, commentCount, thumbnailUrl, isLiked);
+        }
+    }
 }
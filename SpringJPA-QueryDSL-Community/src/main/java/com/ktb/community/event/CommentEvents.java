@@ -0,0 +1,9 @@
+package com.ktb.community.event;
+
+/**
+ * 댓글 변경 이벤트 (CommentService에서 발행)
+ */
+public class CommentEvents {
+    public record Created(Integer postId, Integer commentId) { }
+    public record Deleted(Integer postId, Integer commentId) { }
+}
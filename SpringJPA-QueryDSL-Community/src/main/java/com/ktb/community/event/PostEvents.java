@@ -0,0 +1,16 @@
+package com.ktb.community.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 변경 이벤트 (PostService에서 발행)
+ * - 검색 색인, 좋아요 비트맵 등 부가 구조는 이 이벤트로 갱신한다
+ */
+public class PostEvents {
+    public record Saved(Integer postId, String title, String content, LocalDateTime publishedAt) { }
+    public record Deleted(Integer postId) { }
+    /** 좋아요 행이 실제로 추가/삭제된 경우에만 발행 */
+    public record LikeChanged(Integer userId, Integer postId, boolean liked) { }
+    /** 상세 조회(조회수 증가) */
+    public record Viewed(Integer postId) { }
+}
@@ -2,6 +2,8 @@ package com.ktb.community.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,6 +20,8 @@ import java.util.regex.Pattern;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     @ExceptionHandler(ApiException.class)
     public ResponseEntity<SimpleErrorResponse> handleApi(ApiException ex) {
         var ec = ex.getErrorCode();
@@ -92,15 +96,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<SimpleErrorResponse> handleOther(Exception ex, HttpServletRequest req) {
-        // 스택 트레이스를 로그에 출력
-        ex.printStackTrace();
-        System.err.println("=== ERROR DEBUG ===");
-        System.err.println("Request URL: " + req.getRequestURI());
-        System.err.println("Exception Type: " + ex.getClass().getSimpleName());
-        System.err.println("Exception Message: " + ex.getMessage());
-        ex.printStackTrace(System.err);
-        System.err.println("=== END DEBUG ===");
-        
+        // 스택 트레이스는 로그에 한 번만
+        log.error("unhandled exception on {} {}", req.getMethod(), req.getRequestURI(), ex);
         var status = ErrorCode.INTERNAL_ERROR.getStatus();
         var body = new SimpleErrorResponse(status.value(), ErrorCode.INTERNAL_ERROR.getMessage());
         return ResponseEntity.status(status).body(body);
@@ -0,0 +1,13 @@
+package com.ktb.community.filter;
+
+/**
+ * 요청 경로별 인증 수준
+ */
+public enum AuthLevel {
+    /** 토큰 검증 생략 */
+    PUBLIC,
+    /** 토큰이 있으면 검증해 userId 설정, 없으면 그냥 통과 */
+    OPTIONAL,
+    /** 유효한 Access Token 필수 (기본값) */
+    REQUIRED
+}
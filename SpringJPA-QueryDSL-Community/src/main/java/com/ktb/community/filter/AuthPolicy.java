@@ -0,0 +1,15 @@
+package com.ktb.community.filter;
+
+import java.lang.annotation.*;
+
+/**
+ * 컨트롤러 메서드(또는 클래스)의 인증 수준 선언
+ * - 선언이 없으면 REQUIRED
+ * - 기동 시 RoutePolicyRegistry가 읽어 JwtAuthenticationFilter의 경로 분류표를 만든다
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AuthPolicy {
+    AuthLevel value();
+}
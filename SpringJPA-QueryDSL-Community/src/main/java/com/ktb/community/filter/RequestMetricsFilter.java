@@ -0,0 +1,147 @@
+package com.ktb.community.filter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 비용 측정 - 전체 지연, SQL 문장 수, JDBC 시간, 요청 스레드 할당 바이트
+ * - Micrometer: app.request(지연, status 태그 포함), app.request.sql.statements, app.request.sql.time, app.request.allocated
+ *   모두 route(매핑 패턴, 예: /posts/{postId})와 method 태그, 백분위 히스토그램 발행
+ * - metrics.slow-request-ms(기본 1000) 이상 걸린 요청은 WARN 로그
+ * - 비동기 응답(CompletableFuture)은 응답 완료 시점까지를 지연으로 기록
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsFilter.class);
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final MeterRegistry registry;
+    private final long slowRequestNanos;
+    // 태그 조합은 매핑 패턴 수 × 메서드 수로 한정된다 (route는 실제 경로가 아닌 패턴)
+    private final Map<RouteKey, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestMetricsFilter(MeterRegistry registry,
+                                @Value("${metrics.slow-request-ms:1000}") long slowRequestMs) {
+        this.registry = registry;
+        this.slowRequestNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestMs);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        long allocatedBefore = allocatedBytes();
+        RequestStats stats = RequestStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestStats.end();
+            long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override public void onComplete(AsyncEvent e) { record(request, response, stats, started, allocated); }
+                    @Override public void onTimeout(AsyncEvent e) { }
+                    @Override public void onError(AsyncEvent e) { }
+                    @Override public void onStartAsync(AsyncEvent e) { }
+                });
+            } else {
+                record(request, response, stats, started, allocated);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestStats stats, long started, long allocated) {
+        long elapsed = System.nanoTime() - started;
+        String route = route(request);
+        String method = request.getMethod();
+
+        // 요청마다 builder 생성/레지스트리 조회를 하지 않고 캐시된 미터에 record만 한다
+        RouteMeters m = meters.computeIfAbsent(new RouteKey(route, method), this::newRouteMeters);
+        m.latency(response.getStatus()).record(elapsed, TimeUnit.NANOSECONDS);
+        m.statements().record(stats.statements());
+        m.jdbcTime().record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+        if (allocated >= 0) m.allocated().record(allocated);
+
+        if (elapsed >= slowRequestNanos) {
+            log.warn("slow request {} {} status={} {}ms sql={} jdbc={}ms allocated={}KB",
+                    method, route, response.getStatus(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    stats.statements(), TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos()), allocated >= 0 ? allocated / 1024 : -1);
+        }
+    }
+
+    private record RouteKey(String route, String method) { }
+
+    /** route+method별 미터 - 처음 본 조합에서 한 번만 등록 (상태 코드별 지연 타이머도 처음 본 코드에서 한 번) */
+    private record RouteMeters(RouteKey key, MeterRegistry registry, Map<Integer, Timer> latencyByStatus,
+                               DistributionSummary statements, Timer jdbcTime, DistributionSummary allocated) {
+        Timer latency(int status) {
+            return latencyByStatus.computeIfAbsent(status, s -> Timer.builder("app.request")
+                    .tags("route", key.route(), "method", key.method(), "status", String.valueOf(s))
+                    .publishPercentileHistogram()
+                    .register(registry));
+        }
+    }
+
+    private RouteMeters newRouteMeters(RouteKey key) {
+        return new RouteMeters(key, registry, new ConcurrentHashMap<>(),
+                DistributionSummary.builder("app.request.sql.statements")
+                        .tags("route", key.route(), "method", key.method())
+                        .publishPercentileHistogram()
+                        .register(registry),
+                Timer.builder("app.request.sql.time")
+                        .tags("route", key.route(), "method", key.method())
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("app.request.allocated")
+                        .baseUnit("bytes")
+                        .tags("route", key.route(), "method", key.method())
+                        .publishPercentileHistogram()
+                        .register(registry));
+    }
+
+    /** 매핑 패턴 (id가 들어간 실제 경로를 태그로 쓰면 시계열이 무한히 늘어난다) */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+
+    /** 현재 스레드 누적 할당 바이트 (지원하지 않는 JVM/스레드면 -1) */
+    private static long allocatedBytes() {
+        if (THREADS == null) return -1;
+        try {
+            return THREADS.getCurrentThreadAllocatedBytes();
+        } catch (UnsupportedOperationException e) {
+            return -1;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean;
+        }
+        return null;
+    }
+}
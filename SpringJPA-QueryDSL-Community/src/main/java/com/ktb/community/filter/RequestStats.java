@@ -0,0 +1,38 @@
+package com.ktb.community.filter;
+
+/**
+ * 요청 하나가 쓴 SQL 수/JDBC 시간 누적 (요청 스레드의 ThreadLocal)
+ * - RequestMetricsFilter가 시작/종료하고, Hibernate 훅(SqlMetricsConfig)이 채운다
+ * - 요청 스레드 밖(비동기 후속 처리, @Async, 스케줄러)에서 실행된 SQL은 집계하지 않는다
+ */
+public final class RequestStats {
+    private static final ThreadLocal<RequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+
+    private RequestStats() { }
+
+    static RequestStats begin() {
+        RequestStats stats = new RequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() { CURRENT.remove(); }
+
+    /** Hibernate가 SQL 문장을 준비할 때마다 호출 */
+    public static void statementPrepared() {
+        RequestStats s = CURRENT.get();
+        if (s != null) s.statements++;
+    }
+
+    /** JDBC 실행(단건/배치)에 걸린 시간 */
+    public static void jdbcTime(long nanos) {
+        RequestStats s = CURRENT.get();
+        if (s != null) s.jdbcNanos += nanos;
+    }
+
+    public int statements() { return statements; }
+    public long jdbcNanos() { return jdbcNanos; }
+}
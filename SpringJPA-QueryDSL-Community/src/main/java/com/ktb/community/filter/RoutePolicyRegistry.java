@@ -0,0 +1,58 @@
+package com.ktb.community.filter;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컨트롤러의 @AuthPolicy 선언으로 경로 분류표(RoutePolicyTable)를 기동 시 한 번 만든다
+ * - 매핑에 선언된 HTTP 메서드에만 적용하고(GET 매핑은 Spring MVC처럼 HEAD 포함), 경로는 패턴과 정확히 일치해야 한다
+ *   (예: /privacy만 공개, /privacy/** 접두사는 공개가 아님. /users/login은 POST만 공개)
+ */
+@Component
+public class RoutePolicyRegistry implements SmartInitializingSingleton {
+    private final ApplicationContext context;
+    private volatile RoutePolicyTable table = RoutePolicyTable.of(List.of());
+
+    public RoutePolicyRegistry(ApplicationContext context) { this.context = context; }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 웹 환경이 아니면(배치, 테스트 등) 분류할 핸들러가 없다
+        if (!context.containsBean("requestMappingHandlerMapping")) return;
+        RequestMappingHandlerMapping mapping =
+                context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        List<RoutePolicyTable.Route> routes = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> e : mapping.getHandlerMethods().entrySet()) {
+            AuthLevel level = levelOf(e.getValue());
+            Set<RequestMethod> methods = e.getKey().getMethodsCondition().getMethods();
+            Set<RequestMethod> targets = methods.isEmpty() ? EnumSet.allOf(RequestMethod.class) : EnumSet.copyOf(methods);
+            if (targets.contains(RequestMethod.GET)) targets.add(RequestMethod.HEAD);
+            for (String pattern : e.getKey().getPatternValues()) {
+                for (RequestMethod m : targets) routes.add(new RoutePolicyTable.Route(m.name(), pattern, level));
+            }
+        }
+        this.table = RoutePolicyTable.of(routes);
+    }
+
+    public AuthLevel classify(String method, String path) {
+        return table.classify(method, path);
+    }
+
+    private static AuthLevel levelOf(HandlerMethod handler) {
+        AuthPolicy policy = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), AuthPolicy.class);
+        if (policy == null) policy = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), AuthPolicy.class);
+        return policy == null ? AuthLevel.REQUIRED : policy.value();
+    }
+}
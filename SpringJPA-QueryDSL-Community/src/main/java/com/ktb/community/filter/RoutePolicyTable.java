@@ -0,0 +1,84 @@
+package com.ktb.community.filter;
+
+import java.util.*;
+
+/**
+ * HTTP 메서드별 경로 세그먼트 트라이
+ * - 리터럴 세그먼트 우선, 없으면 {변수} 세그먼트로 매칭 (필요 시 되돌아가 재시도)
+ * - 조회 시 문자열을 나누지 않고 regionMatches로 비교하므로 요청당 할당이 없다
+ */
+public final class RoutePolicyTable {
+    public record Route(String method, String pattern, AuthLevel level) { }
+
+    private static final class Node {
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node wildcard;
+        private AuthLevel level;
+
+        private Node child(String segment) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                if (wildcard == null) wildcard = new Node();
+                return wildcard;
+            }
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) return literalChildren[i];
+            }
+            Node n = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = n;
+            return n;
+        }
+    }
+
+    private final Map<String, Node> roots;
+
+    private RoutePolicyTable(Map<String, Node> roots) { this.roots = roots; }
+
+    public static RoutePolicyTable of(Collection<Route> routes) {
+        Map<String, Node> roots = new HashMap<>();
+        for (Route r : routes) {
+            Node node = roots.computeIfAbsent(r.method(), k -> new Node());
+            for (String segment : r.pattern().split("/")) {
+                if (!segment.isEmpty()) node = node.child(segment);
+            }
+            node.level = r.level();
+        }
+        return new RoutePolicyTable(roots);
+    }
+
+    /**
+     * 요청 분류 - 등록되지 않은 경로/메서드는 REQUIRED
+     */
+    public AuthLevel classify(String method, String path) {
+        Node root = roots.get(method);
+        if (root == null) return AuthLevel.REQUIRED;
+        int start = path.startsWith("/") ? 1 : 0;
+        AuthLevel level = match(root, path, start);
+        return level == null ? AuthLevel.REQUIRED : level;
+    }
+
+    private static AuthLevel match(Node node, String path, int pos) {
+        int length = path.length();
+        if (pos >= length) return node.level;
+        int end = path.indexOf('/', pos);
+        if (end < 0) end = length;
+        int segLen = end - pos;
+        int next = end < length ? end + 1 : end;
+
+        String[] literals = node.literals;
+        for (int i = 0; i < literals.length; i++) {
+            String lit = literals[i];
+            if (lit.length() == segLen && path.regionMatches(pos, lit, 0, segLen)) {
+                AuthLevel found = match(node.literalChildren[i], path, next);
+                if (found != null) return found;
+            }
+        }
+        if (node.wildcard != null && segLen > 0) {
+            return match(node.wildcard, path, next);
+        }
+        return null;
+    }
+}
@@ -1,8 +1,16 @@
 package com.ktb.community.repository.custom;
 
 import com.ktb.community.domain.Comment;
-import java.util.List;
+import com.ktb.community.dto.CursorPage;
 
 public interface CommentRepositoryCustom {
-    List<Comment> findActiveByPostId(Integer postId);
+    /**
+     * 삭제되지 않은 댓글을 (published_at, comment_id) 오름차순 커서로 조회 (totalCount는 채우지 않음)
+     */
+    CursorPage<Comment> findActiveByPostId(Integer postId, String cursor, int size);
+
+    /**
+     * 삭제되지 않은 댓글만 삭제 표시 (조건부 UPDATE) - 실제로 바뀐 행 수 반환 (0 또는 1)
+     */
+    long markDeleted(Integer commentId);
 }
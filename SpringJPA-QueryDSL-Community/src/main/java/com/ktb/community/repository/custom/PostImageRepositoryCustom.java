@@ -1,8 +1,13 @@
 package com.ktb.community.repository.custom;
 
+import com.ktb.community.domain.Post;
 import com.ktb.community.domain.PostImage;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostImageRepositoryCustom {
     List<PostImage> findByPostIdOrderBySort(Integer postId);
+    List<PostImage> findByPostIdsOrderBySort(Collection<Integer> postIds);
+    void hydrateImages(List<Post> page);
+    void reconcile(Integer postId, List<String> urls);
 }
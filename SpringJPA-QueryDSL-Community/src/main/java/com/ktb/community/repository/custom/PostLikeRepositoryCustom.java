@@ -4,10 +4,17 @@ import com.ktb.community.domain.Post;
 import com.ktb.community.domain.PostLike;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PostLikeRepositoryCustom {
     Optional<PostLike> findByUserIdAndPostId(Integer userId, Integer postId);
     long countByPostId(Integer postId);
+    boolean insertIfAbsent(Integer userId, Integer postId);
+    boolean deleteIfPresent(Integer userId, Integer postId);
     Page<Post> findPostsLikedByUser(Integer userId, Pageable pageable);
+    Set<Integer> findLikedPostIds(Integer userId, Collection<Integer> postIds);
+    List<Integer> findAllLikedPostIds(Integer userId);
 }
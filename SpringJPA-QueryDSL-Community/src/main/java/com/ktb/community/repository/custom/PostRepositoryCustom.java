@@ -1,13 +1,38 @@
 package com.ktb.community.repository.custom;
 
 import com.ktb.community.domain.Post;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.dto.PostDtos.PostSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostRepositoryCustom {
-    Page<Post> search(String query, Integer authorId, Boolean hasImage,
+    /** 검색 색인 구축용 (id, 제목, 본문, 게시 시각) */
+    record TextRow(Integer id, String title, String content, LocalDateTime publishedAt) { }
+
+    Page<PostSummary> search(String query, Integer authorId, Boolean hasImage,
                       LocalDateTime from, LocalDateTime to, Pageable pageable);
+    CursorPage<PostSummary> searchByCursor(String query, Integer authorId, Boolean hasImage,
+                                    LocalDateTime from, LocalDateTime to,
+                                    String sortKey, String cursor, int size, boolean withTotal);
     Optional<Post> findActiveById(Integer postId);
+    Optional<Post> findActiveDetailById(Integer postId);
+    List<PostSummary> findSummariesByIds(Collection<Integer> postIds);
+    List<TextRow> findActiveTextAfter(Integer afterId, int limit);
+    void addViewCounts(Map<Integer, Long> deltas);
+    int backfillImageStats(Integer fromIdExclusive, Integer toIdInclusive);
+    int backfillExcerpts(Integer fromIdExclusive, Integer toIdInclusive);
+    int recountCounters(Integer fromIdExclusive, Integer toIdInclusive);
+    Integer findMaxId();
+    Integer findActiveCommentCount(Integer postId);
+    Integer findLikeCountForUpdate(Integer postId);
+    void increaseLikeCount(Integer postId);
+    void decreaseLikeCount(Integer postId);
+    void increaseCommentCount(Integer postId);
+    void decreaseCommentCount(Integer postId);
 }
@@ -2,11 +2,16 @@ package com.ktb.community.repository.impl;
 
 import com.ktb.community.domain.Comment;
 import com.ktb.community.domain.QComment;
-import com.ktb.community.domain.QPost;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.exception.ApiException;
+import com.ktb.community.exception.ErrorCode;
 import com.ktb.community.repository.custom.CommentRepositoryCustom;
+import com.ktb.community.util.CursorCodec;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,15 +20,51 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
     public CommentRepositoryImpl(JPAQueryFactory queryFactory) { this.queryFactory = queryFactory; }
 
     @Override
-    public List<Comment> findActiveByPostId(Integer postId) {
+    public CursorPage<Comment> findActiveByPostId(Integer postId, String cursor, int size) {
         QComment c = QComment.comment;
-        QPost p = QPost.post;
-        return queryFactory
+        // posts 조인 없이 post_id로 바로 걸러 idx_comments_post_pub(post_id, published_at) 범위 스캔
+        BooleanBuilder where = new BooleanBuilder(c.post.id.eq(postId).and(c.deleted.isFalse()));
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorCodec.decode(cursor, 2);
+            try {
+                LocalDateTime at = LocalDateTime.parse(parts[0]);
+                Integer lastId = Integer.valueOf(parts[1]);
+                where.and(c.publishedAt.gt(at).or(c.publishedAt.eq(at).and(c.id.gt(lastId))));
+            } catch (RuntimeException e) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR, "invalid_cursor");
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Comment> rows = queryFactory
                 .selectFrom(c)
-                .join(c.post, p)
                 .join(c.author).fetchJoin()
-                .where(p.id.eq(postId).and(c.deleted.isFalse()))
+                .where(where)
                 .orderBy(c.publishedAt.asc(), c.id.asc())
+                .limit(size + 1L)
                 .fetch();
+
+        String next = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Comment last = rows.get(size - 1);
+            next = CursorCodec.encode(last.getPublishedAt().toString(), String.valueOf(last.getId()));
+        }
+        return new CursorPage<>(rows, next, null);
+    }
+
+    /**
+     * 동시에 같은 댓글을 삭제해도 is_deleted=false 조건 때문에 한 요청만 1행을 바꾼다
+     */
+    @Override
+    public long markDeleted(Integer commentId) {
+        QComment c = QComment.comment;
+        LocalDateTime now = LocalDateTime.now();
+        return queryFactory.update(c)
+                .set(c.deleted, true)
+                .set(c.deletedAt, now)
+                .set(c.updatedAt, now)
+                .where(c.id.eq(commentId).and(c.deleted.isFalse()))
+                .execute();
     }
 }
@@ -1,17 +1,29 @@
 package com.ktb.community.repository.impl;
 
+import com.ktb.community.domain.Post;
 import com.ktb.community.domain.PostImage;
 import com.ktb.community.domain.QPostImage;
 import com.ktb.community.repository.custom.PostImageRepositoryCustom;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.*;
 
 @Repository
 public class PostImageRepositoryImpl implements PostImageRepositoryCustom {
+    // 자리 바꿈 중 (post_id, sort_order) 유일 제약 충돌을 피하기 위한 임시 순번 오프셋
+    private static final int TEMP_SORT_OFFSET = 1_000_000;
+
     private final JPAQueryFactory queryFactory;
-    public PostImageRepositoryImpl(JPAQueryFactory queryFactory) { this.queryFactory = queryFactory; }
+    private final JdbcTemplate jdbc;
+    @PersistenceContext
+    private EntityManager em;
+    public PostImageRepositoryImpl(JPAQueryFactory queryFactory, JdbcTemplate jdbc) {
+        this.queryFactory = queryFactory; this.jdbc = jdbc;
+    }
 
     @Override
     public List<PostImage> findByPostIdOrderBySort(Integer postId) {
@@ -21,4 +33,97 @@ public class PostImageRepositoryImpl implements PostImageRepositoryCustom {
                 .orderBy(i.sortOrder.asc(), i.id.asc())
                 .fetch();
     }
+
+    @Override
+    public List<PostImage> findByPostIdsOrderBySort(Collection<Integer> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        QPostImage i = QPostImage.postImage;
+        return queryFactory.selectFrom(i)
+                .where(i.post.id.in(postIds))
+                .orderBy(i.post.id.asc(), i.sortOrder.asc(), i.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 목록 페이지의 이미지를 한 번의 IN 조회로 채운다 (게시글마다 지연 로딩되는 N+1 방지)
+     * - 목록 응답은 읽기 전용이므로 게시글을 분리(detach)한 뒤 컬렉션을 교체한다
+     */
+    @Override
+    public void hydrateImages(List<Post> page) {
+        if (page.isEmpty()) return;
+        List<Integer> ids = page.stream().map(Post::getId).toList();
+        Map<Integer, List<PostImage>> byPost = new HashMap<>();
+        for (PostImage img : findByPostIdsOrderBySort(ids)) {
+            byPost.computeIfAbsent(img.getPost().getId(), k -> new ArrayList<>()).add(img);
+        }
+        for (Post p : page) {
+            em.detach(p);
+            p.attachImages(byPost.getOrDefault(p.getId(), List.of()));
+        }
+    }
+
+    /**
+     * 게시글 이미지 목록을 urls(1번부터 순서대로)와 같아지도록 차이만 반영
+     * - 같은 자리의 같은 URL은 그대로 두고, 자리만 바뀐 URL은 sort_order만 갱신 (image_id 유지)
+     * - 실제로 빠진 행만 DELETE, 새 URL만 INSERT
+     * - 순서: DELETE 1회 → sort_order 갱신 배치 1회(임시 순번 → 최종 순번) → INSERT 배치 1회
+     *   (삭제로 빈 자리를 먼저 만들고 임시 순번을 거쳐 유일 제약 충돌 없이 자리를 맞바꾼다)
+     * - 삭제/이동은 JDBC로 직접 쓰므로 이미 로딩된 PostImage 엔티티와 Post.images 컬렉션은 갱신되지 않는다
+     */
+    @Override
+    public void reconcile(Integer postId, List<String> urls) {
+        List<PostImage> current = findByPostIdOrderBySort(postId);
+
+        // 1) 같은 자리 같은 URL → 유지
+        Map<Integer, PostImage> bySort = new HashMap<>();
+        for (PostImage img : current) bySort.put(img.getSortOrder(), img);
+        Set<Integer> kept = new HashSet<>();
+        boolean[] placed = new boolean[urls.size()];
+        for (int k = 0; k < urls.size(); k++) {
+            PostImage img = bySort.get(k + 1);
+            if (img != null && img.getImageUrl().equals(urls.get(k))) {
+                kept.add(img.getId());
+                placed[k] = true;
+            }
+        }
+
+        // 2) 남은 기존 이미지 중 URL이 같은 것 → 자리 이동, 나머지 자리는 새로 추가
+        Map<String, Deque<PostImage>> movable = new HashMap<>();
+        for (PostImage img : current) {
+            if (!kept.contains(img.getId())) movable.computeIfAbsent(img.getImageUrl(), u -> new ArrayDeque<>()).add(img);
+        }
+        List<Object[]> moves = new ArrayList<>();
+        List<Integer> insertAt = new ArrayList<>();
+        for (int k = 0; k < urls.size(); k++) {
+            if (placed[k]) continue;
+            Deque<PostImage> same = movable.get(urls.get(k));
+            PostImage img = same == null ? null : same.poll();
+            if (img != null) moves.add(new Object[]{ k + 1, img.getId() });
+            else insertAt.add(k + 1);
+        }
+
+        // 3) 어디에도 쓰이지 않은 기존 이미지 → 삭제
+        List<Integer> removed = movable.values().stream().flatMap(Collection::stream).map(PostImage::getId).toList();
+
+        if (!removed.isEmpty()) {
+            jdbc.update("DELETE FROM post_images WHERE image_id IN (" + placeholders(removed.size()) + ")", removed.toArray());
+        }
+        if (!moves.isEmpty()) {
+            List<Object[]> batch = new ArrayList<>(moves.size() * 2);
+            for (Object[] m : moves) batch.add(new Object[]{ (Integer) m[0] + TEMP_SORT_OFFSET, m[1] });
+            batch.addAll(moves);
+            jdbc.batchUpdate("UPDATE post_images SET sort_order = ? WHERE image_id = ?", batch);
+        }
+        // 새 이미지는 엔티티로 저장 (id는 테이블 생성기가 미리 예약, 커밋 시 JDBC 배치로 전송되어 위 문장들보다 뒤에 실행)
+        Post post = em.getReference(Post.class, postId);
+        for (Integer sort : insertAt) {
+            PostImage img = new PostImage();
+            img.setPost(post); img.setImageUrl(urls.get(sort - 1)); img.setSortOrder(sort);
+            em.persist(img);
+        }
+    }
+
+    private static String placeholders(int n) {
+        return String.join(", ", Collections.nCopies(n, "?"));
+    }
 }
@@ -5,16 +5,25 @@ import com.ktb.community.repository.custom.PostLikeRepositoryCustom;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public class PostLikeRepositoryImpl implements PostLikeRepositoryCustom {
     private final JPAQueryFactory queryFactory;
-    public PostLikeRepositoryImpl(JPAQueryFactory queryFactory) { this.queryFactory = queryFactory; }
+    private final JdbcTemplate jdbc;
+    public PostLikeRepositoryImpl(JPAQueryFactory queryFactory, JdbcTemplate jdbc) {
+        this.queryFactory = queryFactory; this.jdbc = jdbc;
+    }
 
     @Override
     public Optional<PostLike> findByUserIdAndPostId(Integer userId, Integer postId) {
@@ -35,15 +44,68 @@ public class PostLikeRepositoryImpl implements PostLikeRepositoryCustom {
         return cnt == null ? 0 : cnt;
     }
 
+    /**
+     * 좋아요 행이 없을 때만 추가 - 실제로 추가됐으면 true
+     * - PK 중복만 "이미 있음"으로 보고, FK 위반 등 다른 무결성 오류는 그대로 던진다 (INSERT IGNORE는 둘 다 경고로 삼킨다)
+     * - JdbcTemplate으로 실행해 실패한 문장이 JPA 트랜잭션을 rollback-only로 만들지 않게 한다 (같은 트랜잭션 커넥션 사용)
+     */
+    @Override
+    public boolean insertIfAbsent(Integer userId, Integer postId) {
+        try {
+            return jdbc.update("INSERT INTO post_likes (user_id, post_id, created_at) VALUES (?, ?, ?)",
+                    userId, postId, LocalDateTime.now()) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 좋아요 행 삭제 - 실제로 삭제됐으면 true
+     */
+    @Override
+    public boolean deleteIfPresent(Integer userId, Integer postId) {
+        QPostLike pl = QPostLike.postLike;
+        long deleted = queryFactory.delete(pl)
+                .where(pl.id.userId.eq(userId).and(pl.id.postId.eq(postId)))
+                .execute();
+        return deleted == 1;
+    }
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 id만 반환 - post_likes PK(user_id, post_id)에 대한 IN 조회 1회
+     */
+    @Override
+    public Set<Integer> findLikedPostIds(Integer userId, Collection<Integer> postIds) {
+        if (postIds.isEmpty()) return Set.of();
+        QPostLike pl = QPostLike.postLike;
+        return new HashSet<>(queryFactory.select(pl.id.postId)
+                .from(pl)
+                .where(pl.id.userId.eq(userId).and(pl.id.postId.in(postIds)))
+                .fetch());
+    }
+
+    /**
+     * 사용자가 좋아요한 게시글 id 전체 (PK 선두 컬럼 user_id 범위 스캔)
+     */
+    @Override
+    public List<Integer> findAllLikedPostIds(Integer userId) {
+        QPostLike pl = QPostLike.postLike;
+        return queryFactory.select(pl.id.postId)
+                .from(pl)
+                .where(pl.id.userId.eq(userId))
+                .fetch();
+    }
+
     @Override
     public Page<Post> findPostsLikedByUser(Integer userId, Pageable pageable) {
         QPostLike pl = QPostLike.postLike;
         QPost p = QPost.post;
 
         List<Post> content = queryFactory
-                .select(pl.post)
+                .select(p)
                 .from(pl)
-                .join(pl.post, p).fetchJoin()
+                .join(pl.post, p)
+                .join(p.author).fetchJoin()
                 .where(pl.user.id.eq(userId))
                 .orderBy(new OrderSpecifier<>(Order.DESC, pl.createdAt), new OrderSpecifier<>(Order.DESC, p.id))
                 .offset(pageable.getOffset())
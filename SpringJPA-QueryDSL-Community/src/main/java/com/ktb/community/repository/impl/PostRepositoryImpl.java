@@ -2,45 +2,58 @@ package com.ktb.community.repository.impl;
 
 import com.ktb.community.domain.Post;
 import com.ktb.community.domain.QPost;
-import com.ktb.community.domain.QPostImage;
 import com.ktb.community.domain.QUser;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.dto.PostDtos.AuthorSummary;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.exception.ApiException;
+import com.ktb.community.exception.ErrorCode;
 import com.ktb.community.repository.custom.PostRepositoryCustom;
+import com.ktb.community.search.PostSearchIndex;
+import com.ktb.community.util.CursorCodec;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.*;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 public class PostRepositoryImpl implements PostRepositoryCustom {
+    /** 색인 후보를 SQL로 확인하는 한 번의 창 크기 상한 (IN 목록 크기) */
+    private static final int MAX_WINDOW = 1000;
+
     private final JPAQueryFactory queryFactory;
-    public PostRepositoryImpl(JPAQueryFactory queryFactory) { this.queryFactory = queryFactory; }
+    private final PostSearchIndex searchIndex;
+    private final JdbcTemplate jdbc;
+    public PostRepositoryImpl(JPAQueryFactory queryFactory, PostSearchIndex searchIndex, JdbcTemplate jdbc) {
+        this.queryFactory = queryFactory; this.searchIndex = searchIndex; this.jdbc = jdbc;
+    }
 
     @Override
-    public Page<Post> search(String query, Integer authorId, Boolean hasImage,
+    public Page<PostSummary> search(String query, Integer authorId, Boolean hasImage,
                              LocalDateTime from, LocalDateTime to, Pageable pageable) {
         QPost p = QPost.post;
         QUser u = QUser.user;
-        QPostImage i = QPostImage.postImage;
 
-        BooleanBuilder where = new BooleanBuilder();
-        where.and(p.deleted.isFalse());
-        if (query != null && !query.isBlank()) {
-            where.and(p.title.containsIgnoreCase(query).or(p.content.containsIgnoreCase(query)));
-        }
-        if (authorId != null) where.and(p.author.id.eq(authorId));
-        if (from != null) where.and(p.publishedAt.goe(from));
-        if (to != null) where.and(p.publishedAt.loe(to));
-        if (Boolean.TRUE.equals(hasImage)) {
-            where.and(JPAExpressions.selectOne().from(i).where(i.post.eq(p)).exists());
-        }
+        Filter f = filter(query, authorId, hasImage, from, to);
+        if (f == null) return new PageImpl<>(List.of(), pageable, 0);
 
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         if (pageable.getSort().isUnsorted()) {
@@ -56,23 +69,133 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
             }
         }
         orders.add(new OrderSpecifier<>(Order.DESC, p.id));
+        OrderSpecifier<?>[] orderBy = orders.toArray(new OrderSpecifier<?>[0]);
 
-        var content = queryFactory
-                .selectFrom(p)
-                .leftJoin(p.author, u).fetchJoin()
-                .where(where)
-                .orderBy(orders.toArray(new OrderSpecifier<?>[0]))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        List<PostSummary> content;
+        if (f.candidates() == null) {
+            content = queryFactory
+                    .select(summary(p, u))
+                    .from(p)
+                    .join(p.author, u)
+                    .where(f.all())
+                    .orderBy(orderBy)
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+        } else {
+            // 후보를 정렬 순서대로 페이지 끝(offset + size)까지만 확인
+            int offset = (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE - pageable.getPageSize());
+            int needed = offset + pageable.getPageSize();
+            boolean latest = orders.size() == 2 && orders.get(0).equals(p.publishedAt.desc());
+            IdSource ids = latest
+                    ? IdSource.of(searchIndex.orderByLatest(f.candidates(), null, null, from, to))
+                    : orderedIds(f, f.base(), orderBy);
+            List<PostSummary> window = fetchCandidateWindow(f, null, orderBy, ids, needed);
+            content = window.size() <= offset ? List.of() : window.subList(offset, window.size());
+            // 페이지 끝을 채우기 전에 후보가 바닥났다면 처음부터 모든 후보를 확인한 것이므로 그 수가 곧 total
+            if (window.size() < needed) {
+                return new PageImpl<>(withMissingExcerpts(content), pageable, window.size());
+            }
+        }
 
+        // 후보가 남은 경우의 total은 후보 전체(최대 search.index.max-candidates)에 LIKE를 적용해 센다
+        // - n-gram 후보에는 거짓 양성이 있어 posting list 크기로는 정확한 수를 낼 수 없다
+        // - 오프셋 페이지 자체도 페이지 끝(offset + size)까지의 후보를 확인하므로 깊은 페이지일수록 비싸다 (커서 모드 권장)
         Long total = queryFactory
                 .select(p.count())
                 .from(p)
-                .where(where)
+                .where(f.all())
                 .fetchOne();
 
-        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+        return new PageImpl<>(withMissingExcerpts(content), pageable, total == null ? 0 : total);
+    }
+
+    /**
+     * 키셋(커서) 페이지네이션
+     * - (정렬키, post_id) 기준으로 마지막 행 "이후"를 바로 탐색하므로 깊은 페이지도 비용이 일정하다
+     * - 커서 = (정렬 종류, 정렬키 값, post_id), total_count는 withTotal일 때만 계산
+     */
+    @Override
+    public CursorPage<PostSummary> searchByCursor(String query, Integer authorId, Boolean hasImage,
+                                           LocalDateTime from, LocalDateTime to,
+                                           String sortKey, String cursor, int size, boolean withTotal) {
+        QPost p = QPost.post;
+        QUser u = QUser.user;
+
+        Filter f = filter(query, authorId, hasImage, from, to);
+        if (f == null) return new CursorPage<>(List.of(), null, withTotal ? 0L : null);
+        Predicate seek = null;
+        LocalDateTime seekPublishedAt = null;
+        Integer seekId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] c = CursorCodec.decode(cursor, 3);
+            if (!c[0].equals(sortKey)) throw new ApiException(ErrorCode.VALIDATION_ERROR, "invalid_cursor");
+            try {
+                Integer lastId = Integer.valueOf(c[2]);
+                switch (sortKey) {
+                    case "POPULAR" -> {
+                        Integer v = Integer.valueOf(c[1]);
+                        seek = p.likeCount.lt(v).or(p.likeCount.eq(v).and(p.id.lt(lastId)));
+                    }
+                    case "VIEW" -> {
+                        Integer v = Integer.valueOf(c[1]);
+                        seek = p.viewCount.lt(v).or(p.viewCount.eq(v).and(p.id.lt(lastId)));
+                    }
+                    default -> {
+                        LocalDateTime v = LocalDateTime.parse(c[1]);
+                        seek = p.publishedAt.lt(v).or(p.publishedAt.eq(v).and(p.id.lt(lastId)));
+                        seekPublishedAt = v;
+                        seekId = lastId;
+                    }
+                }
+            } catch (RuntimeException e) {
+                throw new ApiException(ErrorCode.VALIDATION_ERROR, "invalid_cursor");
+            }
+        }
+
+        OrderSpecifier<?> primary = switch (sortKey) {
+            case "POPULAR" -> p.likeCount.desc();
+            case "VIEW" -> p.viewCount.desc();
+            default -> p.publishedAt.desc();
+        };
+
+        OrderSpecifier<?>[] orderBy = { primary, p.id.desc() };
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<PostSummary> rows;
+        if (f.candidates() == null) {
+            rows = queryFactory
+                    .select(summary(p, u))
+                    .from(p)
+                    .join(p.author, u)
+                    .where(f.all().and(seek))
+                    .orderBy(orderBy)
+                    .limit(size + 1L)
+                    .fetch();
+        } else {
+            IdSource ids = "LATEST".equals(sortKey)
+                    ? IdSource.of(searchIndex.orderByLatest(f.candidates(), seekPublishedAt, seekId, from, to))
+                    : orderedIds(f, new BooleanBuilder(f.base()).and(seek), orderBy);
+            rows = fetchCandidateWindow(f, seek, orderBy, ids, size + 1);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = new ArrayList<>(rows.subList(0, size));
+            PostSummary last = rows.get(rows.size() - 1);
+            String value = switch (sortKey) {
+                case "POPULAR" -> String.valueOf(last.likeCount());
+                case "VIEW" -> String.valueOf(last.viewCount());
+                default -> last.publishedAt().toString();
+            };
+            nextCursor = CursorCodec.encode(sortKey, value, String.valueOf(last.id()));
+        }
+
+        Long total = null;
+        if (withTotal) {
+            total = queryFactory.select(p.count()).from(p).where(f.all()).fetchOne();
+            if (total == null) total = 0L;
+        }
+        return new CursorPage<>(withMissingExcerpts(rows), nextCursor, total);
     }
 
     @Override
@@ -86,4 +209,297 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .fetchOne();
         return Optional.ofNullable(found);
     }
+
+    /**
+     * 상세 화면용 - 작성자와 이미지까지 한 번에 fetch join
+     */
+    @Override
+    public Optional<Post> findActiveDetailById(Integer postId) {
+        QPost p = QPost.post;
+        var found = queryFactory
+                .selectFrom(p)
+                .leftJoin(p.author).fetchJoin()
+                .leftJoin(p.images).fetchJoin()
+                .where(p.id.eq(postId).and(p.deleted.isFalse()))
+                .fetchOne();
+        return Optional.ofNullable(found);
+    }
+
+    @Override
+    public List<TextRow> findActiveTextAfter(Integer afterId, int limit) {
+        QPost p = QPost.post;
+        return queryFactory
+                .select(Projections.constructor(TextRow.class, p.id, p.title, p.content, p.publishedAt))
+                .from(p)
+                .where(p.id.gt(afterId).and(p.deleted.isFalse()))
+                .orderBy(p.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 게시글의 comment_count만 조회 (없거나 삭제된 게시글이면 null) - 댓글 목록의 total_count용
+     */
+    @Override
+    public Integer findActiveCommentCount(Integer postId) {
+        QPost p = QPost.post;
+        return queryFactory.select(p.commentCount)
+                .from(p)
+                .where(p.id.eq(postId).and(p.deleted.isFalse()))
+                .fetchOne();
+    }
+
+    /**
+     * 게시글 행을 쓰기 잠금하고 현재 like_count 반환 (없거나 삭제된 게시글이면 null)
+     * - 좋아요 INSERT의 FK 공유 잠금보다 먼저 배타 잠금을 잡아 동시 토글 간 교착을 피한다
+     */
+    @Override
+    public Integer findLikeCountForUpdate(Integer postId) {
+        QPost p = QPost.post;
+        return queryFactory.select(p.likeCount)
+                .from(p)
+                .where(p.id.eq(postId).and(p.deleted.isFalse()))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetchOne();
+    }
+
+    @Override
+    public void increaseLikeCount(Integer postId) {
+        QPost p = QPost.post;
+        queryFactory.update(p)
+                .set(p.likeCount, p.likeCount.add(1))
+                .where(p.id.eq(postId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseLikeCount(Integer postId) {
+        QPost p = QPost.post;
+        queryFactory.update(p)
+                .set(p.likeCount, p.likeCount.subtract(1))
+                .where(p.id.eq(postId).and(p.likeCount.gt(0)))
+                .execute();
+    }
+
+    /**
+     * comment_count 컬럼만 원자적으로 증감 (엔티티를 읽어 저장하지 않으므로 동시 요청에도 유실 없음)
+     */
+    @Override
+    public void increaseCommentCount(Integer postId) {
+        QPost p = QPost.post;
+        queryFactory.update(p)
+                .set(p.commentCount, p.commentCount.add(1))
+                .where(p.id.eq(postId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseCommentCount(Integer postId) {
+        QPost p = QPost.post;
+        queryFactory.update(p)
+                .set(p.commentCount, p.commentCount.subtract(1))
+                .where(p.id.eq(postId).and(p.commentCount.gt(0)))
+                .execute();
+    }
+
+    /**
+     * 지정한 게시글들의 목록 카드 (삭제된 글 제외, 순서는 호출자가 정한다)
+     */
+    @Override
+    public List<PostSummary> findSummariesByIds(Collection<Integer> postIds) {
+        if (postIds.isEmpty()) return List.of();
+        QPost p = QPost.post;
+        QUser u = QUser.user;
+        return withMissingExcerpts(queryFactory
+                .select(summary(p, u))
+                .from(p)
+                .join(p.author, u)
+                .where(p.id.in(postIds).and(p.deleted.isFalse()))
+                .fetch());
+    }
+
+    /**
+     * image_count/thumbnail_url을 post_images에서 다시 계산 (post_id 구간 단위, 구간마다 별도 커밋)
+     */
+    @Override
+    public int backfillImageStats(Integer fromIdExclusive, Integer toIdInclusive) {
+        return jdbc.update("""
+                UPDATE posts p
+                   SET image_count = (SELECT COUNT(*) FROM post_images i WHERE i.post_id = p.post_id),
+                       thumbnail_url = (SELECT i.image_url FROM post_images i WHERE i.post_id = p.post_id AND i.sort_order = 1)
+                 WHERE p.post_id > ? AND p.post_id <= ?""", fromIdExclusive, toIdInclusive);
+    }
+
+    /**
+     * excerpt가 비어 있는 게시글을 구간 단위로 채운다 (요약 규칙은 Post.excerptOf와 동일)
+     */
+    @Override
+    public int backfillExcerpts(Integer fromIdExclusive, Integer toIdInclusive) {
+        List<Object[]> rows = jdbc.query(
+                "SELECT post_id, content FROM posts WHERE excerpt IS NULL AND post_id > ? AND post_id <= ?",
+                (rs, n) -> new Object[]{ Post.excerptOf(rs.getString(2)), rs.getInt(1) },
+                fromIdExclusive, toIdInclusive);
+        if (rows.isEmpty()) return 0;
+        jdbc.batchUpdate("UPDATE posts SET excerpt = ? WHERE post_id = ?", rows);
+        return rows.size();
+    }
+
+    /**
+     * like_count/comment_count를 post_likes, comments(삭제 제외) 행 수로 다시 계산 (post_id 구간 단위)
+     */
+    @Override
+    public int recountCounters(Integer fromIdExclusive, Integer toIdInclusive) {
+        return jdbc.update("""
+                UPDATE posts p
+                   SET like_count = (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id),
+                       comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.is_deleted = FALSE)
+                 WHERE p.post_id > ? AND p.post_id <= ?""", fromIdExclusive, toIdInclusive);
+    }
+
+    @Override
+    public Integer findMaxId() {
+        return jdbc.queryForObject("SELECT COALESCE(MAX(post_id), 0) FROM posts", Integer.class);
+    }
+
+    /**
+     * 누적된 조회수를 한 번의 JDBC 배치로 반영 (행 전체가 아닌 view_count 컬럼만 증가)
+     * - 한 트랜잭션으로 실행 - 중간에 실패하면 전부 롤백되어, 호출 측이 전체를 다시 반영해도 중복 증가가 없다
+     */
+    @Override
+    @Transactional
+    public void addViewCounts(Map<Integer, Long> deltas) {
+        var rows = deltas.entrySet().stream()
+                .map(e -> new Object[]{ e.getValue(), e.getKey() })
+                .toList();
+        jdbc.batchUpdate("UPDATE posts SET view_count = view_count + ? WHERE post_id = ?", rows);
+    }
+
+    /**
+     * 피드 카드 컬럼만 선택하는 프로젝션 (본문 longtext, 이미지 컬렉션, 작성자 이메일 제외)
+     * - 썸네일은 posts.thumbnail_url (sort_order 1번 이미지를 비정규화)
+     */
+    private static Expression<PostSummary> summary(QPost p, QUser u) {
+        return Projections.constructor(PostSummary.class,
+                p.id, p.title, p.excerpt,
+                Projections.constructor(AuthorSummary.class, u.id, u.nickname, u.profileImageUrl),
+                p.publishedAt, p.viewCount, p.likeCount, p.commentCount, p.thumbnailUrl);
+    }
+
+    /**
+     * excerpt 컬럼이 비어 있는 행(백필 전에 작성된 게시글)은 본문에서 요약을 계산해 채운다
+     * - 그런 행의 본문만 한 번에 읽으며, 계산한 값을 저장하지는 않는다 (저장은 PostColumnBackfill)
+     */
+    private List<PostSummary> withMissingExcerpts(List<PostSummary> rows) {
+        List<Integer> missing = rows.stream().filter(r -> r.excerpt() == null).map(PostSummary::id).toList();
+        if (missing.isEmpty()) return rows;
+        QPost p = QPost.post;
+        Map<Integer, String> excerpts = new HashMap<>();
+        for (Tuple t : queryFactory.select(p.id, p.content).from(p).where(p.id.in(missing)).fetch()) {
+            excerpts.put(t.get(p.id), Post.excerptOf(t.get(p.content)));
+        }
+        return rows.stream().map(r -> r.excerpt() == null ? r.withExcerpt(excerpts.get(r.id())) : r).toList();
+    }
+
+    /**
+     * 공통 검색 조건
+     * - base: 삭제/작성자/기간/이미지 조건, keyword: 검색어 LIKE (없으면 null)
+     * - candidates: 검색 색인이 좁힌 후보 id (색인을 쓰지 않으면 null)
+     */
+    private record Filter(BooleanBuilder base, Predicate keyword, int[] candidates) {
+        /** 전체 조건 - 후보가 있으면 IN(후보)로 좁힌 뒤 LIKE로 정확히 확인 */
+        BooleanBuilder all() {
+            BooleanBuilder all = new BooleanBuilder(base);
+            if (candidates != null) all.and(QPost.post.id.in(Arrays.stream(candidates).boxed().toList()));
+            if (keyword != null) all.and(keyword);
+            return all;
+        }
+    }
+
+    /**
+     * 검색 조건. 검색 색인상 일치하는 게시글이 없으면 null
+     */
+    private Filter filter(String query, Integer authorId, Boolean hasImage,
+                          LocalDateTime from, LocalDateTime to) {
+        QPost p = QPost.post;
+
+        BooleanBuilder base = new BooleanBuilder();
+        base.and(p.deleted.isFalse());
+        if (authorId != null) base.and(p.author.id.eq(authorId));
+        if (from != null) base.and(p.publishedAt.goe(from));
+        if (to != null) base.and(p.publishedAt.loe(to));
+        // 상관 서브쿼리(EXISTS) 대신 비정규화 컬럼 비교 - 정렬 인덱스 안에서 바로 판정
+        if (Boolean.TRUE.equals(hasImage)) base.and(p.imageCount.gt(0));
+
+        if (query == null || query.isBlank()) return new Filter(base, null, null);
+        Predicate keyword = p.title.containsIgnoreCase(query).or(p.content.containsIgnoreCase(query));
+        // 역색인으로 후보 id를 먼저 좁히고, LIKE는 후보 행에만 적용해 정확한 일치를 보장
+        int[] candidates = searchIndex.candidates(query);
+        if (candidates != null && candidates.length == 0) return null;
+        return new Filter(base, keyword, candidates);
+    }
+
+    /** 정렬 순서대로 후보 id를 앞에서부터 n개씩 내준다 (빈 목록이면 끝) */
+    @FunctionalInterface
+    private interface IdSource {
+        List<Integer> next(int n);
+
+        static IdSource of(int[] ordered) {
+            int[] pos = { 0 };
+            return n -> {
+                int from = pos[0], to = Math.min(ordered.length, from + n);
+                pos[0] = to;
+                return Arrays.stream(ordered, from, to).boxed().toList();
+            };
+        }
+    }
+
+    /**
+     * 게시 시각 외의 정렬(좋아요/조회수 - 계속 바뀌므로 색인에 두지 않음)은 DB가 후보 id만 정렬해 내준다
+     * - id와 정렬 컬럼만 읽고 본문 LIKE는 하지 않는다
+     */
+    private IdSource orderedIds(Filter f, BooleanBuilder where, OrderSpecifier<?>[] orderBy) {
+        QPost p = QPost.post;
+        List<Integer> candidates = Arrays.stream(f.candidates()).boxed().toList();
+        long[] offset = { 0 };
+        return n -> {
+            List<Integer> ids = queryFactory.select(p.id).from(p)
+                    .where(new BooleanBuilder(where).and(p.id.in(candidates)))
+                    .orderBy(orderBy)
+                    .offset(offset[0])
+                    .limit(n)
+                    .fetch();
+            offset[0] += ids.size();
+            return ids;
+        };
+    }
+
+    /**
+     * 색인 후보 중 정렬 순서상 앞에서부터 needed개의 일치 게시글
+     * - 후보를 정렬 순서대로 창(처음엔 needed개, 이후 두 배씩) 단위로 잘라 IN(창) + LIKE로 확인
+     * - 창은 전체 정렬 순서의 연속 구간이므로 창별 결과를 이어 붙여도 순서가 유지된다
+     * - LIKE는 창 안의 행에만 적용된다 (n-gram 거짓 양성이나 다른 조건으로 빠진 만큼만 더 읽는다)
+     */
+    private List<PostSummary> fetchCandidateWindow(Filter f, Predicate seek, OrderSpecifier<?>[] orderBy,
+                                                   IdSource ids, int needed) {
+        QPost p = QPost.post;
+        QUser u = QUser.user;
+        BooleanBuilder where = new BooleanBuilder(f.base()).and(seek).and(f.keyword());
+        List<PostSummary> out = new ArrayList<>(needed);
+        int batch = Math.min(needed, MAX_WINDOW);
+        while (out.size() < needed) {
+            List<Integer> window = ids.next(batch);
+            if (window.isEmpty()) break;
+            out.addAll(queryFactory
+                    .select(summary(p, u))
+                    .from(p)
+                    .join(p.author, u)
+                    .where(new BooleanBuilder(where).and(p.id.in(window)))
+                    .orderBy(orderBy)
+                    .limit(needed - out.size())
+                    .fetch());
+            if (window.size() < batch) break;
+            batch = Math.min(batch * 2, MAX_WINDOW);
+        }
+        return out;
+    }
 }
@@ -0,0 +1,96 @@
+package com.ktb.community.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한글 친화적인 n-gram 토크나이저
+ * - fold()로 정규화한 뒤 문자/숫자 연속 구간(run) 단위로 자른다
+ * - 형태소 분석 없이도 부분 일치가 되도록 각 run을 2-gram으로 쪼갠다 (1글자 run은 그대로)
+ */
+public final class NgramTokenizer {
+    // DB 콜레이션이 같은 글자로 보는 라틴 확장 문자 (분해 정규화로는 풀리지 않는 것)
+    private static final Map<Character, String> EXPANSIONS = Map.of(
+            'æ', "ae", 'œ', "oe", 'ø', "o", 'đ', "d", 'ð', "d", 'ł', "l", 'ħ', "h", 'ŧ', "t");
+
+    private NgramTokenizer() { }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) return terms;
+        String s = fold(text);
+        int i = 0, n = s.length();
+        while (i < n) {
+            while (i < n && !Character.isLetterOrDigit(s.charAt(i))) i++;
+            int start = i;
+            while (i < n && Character.isLetterOrDigit(s.charAt(i))) i++;
+            int len = i - start;
+            if (len == 1) {
+                terms.add(s.substring(start, i));
+            } else {
+                for (int j = start; j + 2 <= i; j++) terms.add(s.substring(j, j + 2));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 색인으로 후보를 좁힐 수 있는 검색어인지 확인
+     * - 1글자 run은 문서 쪽 2-gram에 포함된 경우를 찾을 수 없으므로 색인을 쓰지 않는다
+     * - fold()가 콜레이션과 같게 접는다고 확인한 문자(영문/숫자, 한글, 한자, 가나)만 있어야 한다
+     *   그 밖의 문자는 콜레이션이 같다고 보는 변형을 놓칠 수 있으므로 LIKE로 검색한다
+     */
+    public static boolean isIndexable(String query) {
+        if (query == null) return false;
+        String s = fold(query);
+        int i = 0, n = s.length(), runs = 0;
+        while (i < n) {
+            while (i < n && !Character.isLetterOrDigit(s.charAt(i))) i++;
+            int start = i;
+            while (i < n && Character.isLetterOrDigit(s.charAt(i))) {
+                if (!isFoldedScript(s.charAt(i))) return false;
+                i++;
+            }
+            if (i - start == 1) return false;
+            if (i > start) runs++;
+        }
+        return runs > 0;
+    }
+
+    /**
+     * 검색 비교용 정규화 - DB 콜레이션(대소문자/악센트/전각 구분 없음)이 같다고 보는 문자열을 같게 만든다
+     * - 호환 분해(NFKD) 후 결합 부호 제거, 대문자→소문자 (ß → ss 같은 확장 포함), 라틴 확장 문자 치환
+     * - 후보 집합은 DB 결과를 포함해야 하므로 콜레이션보다 더 접는 것(거짓 양성)은 괜찮고 덜 접으면 안 된다
+     */
+    static String fold(String text) {
+        String d = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder sb = new StringBuilder(d.length());
+        for (int i = 0; i < d.length(); i++) {
+            char c = d.charAt(i);
+            int type = Character.getType(c);
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                    || type == Character.ENCLOSING_MARK) continue;
+            sb.append(c);
+        }
+        String s = Normalizer.normalize(sb, Normalizer.Form.NFC).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        StringBuilder out = null;
+        for (int i = 0; i < s.length(); i++) {
+            String e = EXPANSIONS.get(s.charAt(i));
+            if (e != null && out == null) out = new StringBuilder(s.length() + 4).append(s, 0, i);
+            if (out != null) {
+                if (e != null) out.append(e); else out.append(s.charAt(i));
+            }
+        }
+        return out == null ? s : out.toString();
+    }
+
+    private static boolean isFoldedScript(char c) {
+        if (c < 0x80) return true;
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,216 @@
+package com.ktb.community.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 제목/본문 역색인 (애플리케이션 메모리)
+ * - term(2-gram) → 게시글 id posting list, 게시글별로 최신순 정렬키(게시 시각)도 보관
+ * - 색인은 후보를 좁히는 용도이며, 최종 일치 여부는 DB 조건으로 다시 확인한다
+ * - 메모리는 posting 항목 수로 제한한다: search.index.max-postings를 넘으면 가장 흔한 term부터
+ *   색인에서 빼고(중지 term) 검색 시 그 term은 건너뛴다. 모든 term이 중지된 검색어만 LIKE로 검색
+ *   (크기는 search.index.* 게이지로 노출)
+ */
+@Component
+public class PostSearchIndex implements MeterBinder {
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    /** 색인된 게시글 - 뺄 posting list(term 문자열을 문서마다 따로 들고 있지 않도록 목록 참조)와 정렬키 */
+    private record Doc(PostingList[] terms, long publishedKey) { }
+
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final long maxPostings;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private final Set<String> stoppedTerms = new HashSet<>();
+    private long postingEntries = 0;
+    private volatile boolean ready = false;
+
+    public PostSearchIndex(@Value("${search.index.enabled:true}") boolean enabled,
+                           @Value("${search.index.max-candidates:5000}") int maxCandidates,
+                           @Value("${search.index.max-postings:10000000}") long maxPostings) {
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.maxPostings = maxPostings;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.index.documents", this, PostSearchIndex::documentCount)
+                .description("색인된 게시글 수")
+                .register(registry);
+        Gauge.builder("search.index.terms", this, i -> i.read(i.postings::size))
+                .description("색인 term(2-gram) 수")
+                .register(registry);
+        Gauge.builder("search.index.postings", this, i -> i.read(() -> i.postingEntries))
+                .description("posting list 항목 수 (게시글-term 쌍, 항목당 약 4바이트 + 문서별 참조)")
+                .register(registry);
+        Gauge.builder("search.index.stopped-terms", this, i -> i.read(i.stoppedTerms::size))
+                .description("항목 상한 때문에 색인에서 뺀 흔한 term 수")
+                .register(registry);
+        Gauge.builder("search.index.ready", this, i -> i.isReady() ? 1 : 0)
+                .description("색인 사용 여부 (0이면 LIKE 검색)")
+                .register(registry);
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    /** 초기 색인(재구축)이 끝나야 검색에 사용한다 */
+    public boolean isReady() { return enabled && ready; }
+    void markReady() { this.ready = true; }
+
+    public int documentCount() {
+        return read(docs::size);
+    }
+
+    private <T> T read(Supplier<T> f) {
+        lock.readLock().lock();
+        try { return f.get(); } finally { lock.readLock().unlock(); }
+    }
+
+    /**
+     * 게시글 색인 (이미 있으면 교체)
+     */
+    public void index(Integer postId, String title, String content, LocalDateTime publishedAt) {
+        if (!enabled || postId == null) return;
+        Set<String> terms = NgramTokenizer.tokenize(title);
+        terms.addAll(NgramTokenizer.tokenize(content));
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String t : terms) {
+                if (stoppedTerms.contains(t)) continue;
+                PostingList pl = postings.computeIfAbsent(t, PostingList::new);
+                pl.add(postId);
+                lists.add(pl);
+            }
+            docs.put(postId, new Doc(lists.toArray(new PostingList[0]), sortKey(publishedAt)));
+            postingEntries += lists.size();
+            if (postingEntries > maxPostings) stopFrequentTerms();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목 상한 초과 - posting list가 긴(흔한, 후보를 거의 좁히지 못하는) term부터 색인에서 빼
+     * 상한의 90%까지 줄인다. 다른 term과 문서는 그대로 두므로 나머지 검색은 계속 색인을 쓴다
+     */
+    private void stopFrequentTerms() {
+        long target = maxPostings - maxPostings / 10;
+        List<PostingList> bySize = new ArrayList<>(postings.values());
+        bySize.sort(Comparator.comparingInt(PostingList::size).reversed());
+        int stopped = 0;
+        for (PostingList pl : bySize) {
+            if (postingEntries <= target) break;
+            postings.remove(pl.term());
+            stoppedTerms.add(pl.term());
+            postingEntries -= pl.size();
+            pl.clear();
+            stopped++;
+        }
+        log.warn("post search index exceeded search.index.max-postings={}, stopped {} frequent terms ({} in total)",
+                maxPostings, stopped, stoppedTerms.size());
+    }
+
+    public void remove(Integer postId) {
+        if (!enabled || postId == null) return;
+        lock.writeLock().lock();
+        try { removeLocked(postId); } finally { lock.writeLock().unlock(); }
+    }
+
+    private void removeLocked(Integer postId) {
+        Doc old = docs.remove(postId);
+        if (old == null) return;
+        for (PostingList pl : old.terms()) {
+            // 중지된 term의 목록은 이미 비워져 있다
+            if (!pl.remove(postId)) continue;
+            postingEntries--;
+            if (pl.size() == 0) postings.remove(pl.term(), pl);
+        }
+    }
+
+    /**
+     * 검색어의 모든 term을 포함하는 게시글 id (오름차순)
+     * - 중지된 term은 건너뛰고 나머지 term으로만 좁힌다 (LIKE 재확인으로 결과는 정확)
+     * - null: 색인으로 판단할 수 없음 (미준비, 1글자 검색어, 모든 term 중지, 후보 과다) → 호출 측에서 LIKE로 대체
+     * - 빈 배열: 일치하는 게시글 없음
+     */
+    public int[] candidates(String query) {
+        if (!isReady() || !NgramTokenizer.isIndexable(query)) return null;
+        Set<String> terms = NgramTokenizer.tokenize(query);
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String t : terms) {
+                if (stoppedTerms.contains(t)) continue;
+                PostingList pl = postings.get(t);
+                if (pl == null) return new int[0];
+                lists.add(pl);
+            }
+            if (lists.isEmpty()) return null;
+            // 짧은 posting list부터 교집합
+            lists.sort(Comparator.comparingInt(PostingList::size));
+            int[] result = lists.get(0).toArray();
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = lists.get(i).intersect(result);
+            }
+            return result.length > maxCandidates ? null : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 후보를 최신순(게시 시각, id 내림차순)으로 정렬 - SQL에는 페이지 창만큼씩 잘라 보낸다
+     * - before/beforeId: 커서 위치 (그 이후만), from/to: 게시 시각 구간. null이면 제한 없음
+     * - 그사이 색인에서 빠진(삭제된) 게시글은 제외
+     */
+    public int[] orderByLatest(int[] candidates, LocalDateTime before, Integer beforeId,
+                               LocalDateTime from, LocalDateTime to) {
+        long beforeKey = before == null ? Long.MAX_VALUE : sortKey(before);
+        long fromKey = from == null ? Long.MIN_VALUE : sortKey(from);
+        long toKey = to == null ? Long.MAX_VALUE : sortKey(to);
+        List<Keyed> rows = new ArrayList<>(candidates.length);
+        lock.readLock().lock();
+        try {
+            for (int id : candidates) {
+                Doc d = docs.get(id);
+                if (d == null) continue;
+                long k = d.publishedKey();
+                if (k < fromKey || k > toKey) continue;
+                if (before != null && (k > beforeKey || (k == beforeKey && id >= beforeId))) continue;
+                rows.add(new Keyed(id, k));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        rows.sort(Comparator.comparingLong(Keyed::key).thenComparingInt(Keyed::id).reversed());
+        int[] out = new int[rows.size()];
+        for (int i = 0; i < out.length; i++) out[i] = rows.get(i).id();
+        return out;
+    }
+
+    private record Keyed(int id, long key) { }
+
+    /** 게시 시각 → 정렬키 (마이크로초, DB datetime(6) 정밀도) */
+    private static long sortKey(LocalDateTime t) {
+        if (t == null) return Long.MIN_VALUE;
+        return t.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + t.getNano() / 1_000;
+    }
+}
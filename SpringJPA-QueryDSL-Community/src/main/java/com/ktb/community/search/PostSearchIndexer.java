@@ -0,0 +1,104 @@
+package com.ktb.community.search;
+
+import com.ktb.community.event.PostEvents;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.custom.PostRepositoryCustom.TextRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PostSearchIndex 유지 관리
+ * - 기동 시 게시글을 post_id 순으로 나눠 읽으며(streaming scan) 색인을 재구축
+ * - 이후에는 PostService 이벤트(커밋 이후)로 증분 갱신
+ */
+@Component
+public class PostSearchIndexer {
+    private static final Logger log = LoggerFactory.getLogger(PostSearchIndexer.class);
+
+    private final PostSearchIndex index;
+    private final PostRepository posts;
+    private final int batchSize;
+
+    // 재구축 중 증분 갱신된 게시글 (재구축이 오래된 내용으로 덮어쓰지 않도록)
+    // - 확인과 색인 쓰기를 같은 락 안에서 해야 확인 직후 들어온 갱신을 덮어쓰지 않는다
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Set<Integer> touchedDuringRebuild = new HashSet<>();
+    private boolean rebuilding = false;
+
+    public PostSearchIndexer(PostSearchIndex index, PostRepository posts,
+                             @Value("${search.index.rebuild-batch-size:500}") int batchSize) {
+        this.index = index; this.posts = posts; this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!index.isEnabled()) return;
+        long started = System.currentTimeMillis();
+        rebuildLock.lock();
+        try { rebuilding = true; } finally { rebuildLock.unlock(); }
+        try {
+            Integer afterId = 0;
+            while (true) {
+                List<TextRow> rows = posts.findActiveTextAfter(afterId, batchSize);
+                for (TextRow r : rows) indexScanned(r);
+                if (rows.size() < batchSize) break;
+                afterId = rows.get(rows.size() - 1).id();
+            }
+            index.markReady();
+            log.info("post search index rebuilt: {} posts in {} ms", index.documentCount(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            // 색인 없이도 검색은 LIKE로 동작하므로 기동을 막지 않는다
+            log.error("post search index rebuild failed, falling back to LIKE search", e);
+        } finally {
+            rebuildLock.lock();
+            try {
+                rebuilding = false;
+                touchedDuringRebuild.clear();
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(PostEvents.Saved e) {
+        rebuildLock.lock();
+        try {
+            if (rebuilding) touchedDuringRebuild.add(e.postId());
+            index.index(e.postId(), e.title(), e.content(), e.publishedAt());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(PostEvents.Deleted e) {
+        rebuildLock.lock();
+        try {
+            if (rebuilding) touchedDuringRebuild.add(e.postId());
+            index.remove(e.postId());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /** 재구축 스캔으로 읽은 행 - 스캔 중 이벤트로 갱신된 게시글은 건너뛴다 */
+    private void indexScanned(TextRow r) {
+        rebuildLock.lock();
+        try {
+            if (!touchedDuringRebuild.contains(r.id())) index.index(r.id(), r.title(), r.content(), r.publishedAt());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ktb.community.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열 기반 posting list
+ * - 박싱 없는 4바이트/문서 표현, 교집합은 정렬 병합으로 계산
+ * - 동기화는 PostSearchIndex의 락에서 처리한다
+ */
+final class PostingList {
+    private final String term;
+    private int[] ids = new int[4];
+    private int size;
+
+    PostingList(String term) { this.term = term; }
+
+    String term() { return term; }
+
+    int size() { return size; }
+
+    void add(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) return;
+        int at = -pos - 1;
+        if (size == ids.length) ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        System.arraycopy(ids, at, ids, at + 1, size - at);
+        ids[at] = id;
+        size++;
+    }
+
+    /** 있던 id를 뺐으면 true */
+    boolean remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) return false;
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+        if (size < ids.length >> 2 && ids.length > 16) ids = Arrays.copyOf(ids, size * 2);
+        return true;
+    }
+
+    /** 중지된 term - 메모리를 돌려준다 (이 목록을 참조하는 문서가 있어도 이후 remove는 false) */
+    void clear() {
+        ids = new int[0];
+        size = 0;
+    }
+
+    int[] toArray() { return Arrays.copyOf(ids, size); }
+
+    /** 정렬된 후보 배열과의 교집합 */
+    int[] intersect(int[] sorted) {
+        int[] out = new int[Math.min(sorted.length, size)];
+        int i = 0, j = 0, k = 0;
+        while (i < sorted.length && j < size) {
+            int a = sorted[i], b = ids[j];
+            if (a == b) { out[k++] = a; i++; j++; }
+            else if (a < b) i++;
+            else j++;
+        }
+        return Arrays.copyOf(out, k);
+    }
+}
@@ -0,0 +1,403 @@
+package com.ktb.community.seed;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.util.IdBlockAllocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 부하/용량 테스트용 합성 데이터 대량 적재 (users, posts, post_images, comments, post_likes)
+ * - 같은 Plan(seed 포함)과 seed.chunk-rows면 같은 데이터 (id 시작 값만 다를 수 있음) - 행은 청크 번호로 만든 난수열로 생성
+ * - id는 IdBlockAllocator로 테이블마다 연속 구간을 먼저 예약 (운영 중인 인스턴스의 id 블록과 겹치지 않는다)
+ * - 순서: users → posts(image_count/thumbnail_url 포함) → images, comments, likes 동시 적재 → like_count/comment_count 재계산
+ * - 같은 단계의 청크는 seed.threads개 스레드로 병렬, 청크마다 한 트랜잭션, 다중 행 INSERT 배치
+ * - 인기도: 게시글 좋아요/댓글, 작성자/댓글 작성자 모두 Zipf 분포 (순위는 id에 흩어 배치), 사용자별 좋아요 수는 파레토 분포
+ * - 검색 색인은 적재하지 않는다 (다음 기동 시 재구축)
+ */
+@Component
+public class DatasetGenerator {
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+    private static final int RECOUNT_RANGE = 1000;
+    private static final int MAX_LIKES_PER_USER = 2000;
+    private static final String[] TOPICS = {
+            "스프링", "자바", "트랜잭션", "인덱스", "캐시", "쿼리", "배포", "테스트", "도커", "쿠버네티스",
+            "리액트", "타입스크립트", "레디스", "카프카", "모니터링", "로그", "보안", "인증", "성능", "리팩터링",
+            "알고리즘", "코딩테스트", "면접", "이력서", "스터디", "프로젝트", "회고", "멘토링", "네트워크", "운영체제"
+    };
+    private static final String[] WORDS = {
+            "오늘", "정리한", "내용을", "공유합니다", "질문이", "있습니다", "감사합니다", "혹시", "아시는", "분",
+            "계신가요", "처음", "해보는데", "어렵네요", "참고", "바랍니다", "좋은", "하루", "되세요", "후기",
+            "설정", "에러가", "납니다", "해결했습니다", "방법", "추천", "부탁드립니다", "궁금합니다", "경험", "공유"
+    };
+
+    private static final List<String> POST_COLUMNS = List.of("post_id", "user_id", "title", "content", "excerpt", "image_count",
+            "thumbnail_url", "is_deleted", "published_at", "updated_at", "view_count", "like_count", "comment_count");
+    private static final List<String> IMAGE_COLUMNS = List.of("image_id", "post_id", "image_url", "sort_order", "created_at");
+    private static final List<String> COMMENT_COLUMNS = List.of("comment_id", "user_id", "post_id", "content", "is_deleted",
+            "published_at", "updated_at");
+    private static final List<String> LIKE_COLUMNS = List.of("user_id", "post_id", "created_at");
+    private static final List<String> USER_COLUMNS = List.of("user_id", "nickname", "email", "password", "profile_image_url",
+            "is_deleted", "created_at", "updated_at");
+
+    /**
+     * 생성 규모와 분포
+     * @param likesPerUser 사용자당 평균 좋아요 수 (실제 분포는 파레토, 총합은 근사치)
+     * @param until 게시글 작성 시각 구간의 끝 (구간 = until - days일 ~ until)
+     */
+    public record Plan(int users, int posts, int comments, int likesPerUser, int maxImagesPerPost,
+                       double zipfExponent, long seed, int days, LocalDateTime until) { }
+
+    /** 적재 결과 - 새 행의 id는 각 시작 값부터 연속 */
+    public record Result(int firstUserId, int firstPostId, int users, int posts,
+                         long images, long comments, long likes, long elapsedMs) { }
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final IdBlockAllocator ids;
+    private final PostRepository posts;
+    private final int threads;
+    private final int chunkRows;
+    private final MultiRowInsert userInsert;
+    private final MultiRowInsert postInsert;
+    private final MultiRowInsert imageInsert;
+    private final MultiRowInsert commentInsert;
+    private final MultiRowInsert likeInsert;
+
+    public DatasetGenerator(JdbcTemplate jdbc, PlatformTransactionManager txManager, IdBlockAllocator ids, PostRepository posts,
+                            @Value("${seed.threads:0}") int threads,
+                            @Value("${seed.chunk-rows:5000}") int chunkRows,
+                            @Value("${seed.rows-per-insert:500}") int rowsPerInsert) {
+        this.jdbc = jdbc;
+        this.tx = new TransactionTemplate(txManager);
+        this.ids = ids;
+        this.posts = posts;
+        this.threads = threads > 0 ? threads : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        this.chunkRows = Math.max(chunkRows, 1);
+        this.userInsert = new MultiRowInsert("users", USER_COLUMNS, rowsPerInsert);
+        this.postInsert = new MultiRowInsert("posts", POST_COLUMNS, rowsPerInsert);
+        this.imageInsert = new MultiRowInsert("post_images", IMAGE_COLUMNS, rowsPerInsert);
+        this.commentInsert = new MultiRowInsert("comments", COMMENT_COLUMNS, rowsPerInsert);
+        this.likeInsert = new MultiRowInsert("post_likes", LIKE_COLUMNS, rowsPerInsert);
+    }
+
+    public Result generate(Plan plan) {
+        if (plan.users() < 1 || plan.posts() < 1) throw new IllegalArgumentException("users, posts must be positive");
+        long started = System.currentTimeMillis();
+
+        // 이미지 수는 게시글 번호로 정해지므로 총량(예약할 id 수)과 청크별 시작 위치를 미리 계산
+        int postChunks = chunks(plan.posts());
+        long[] imageOffsets = new long[postChunks + 1];
+        for (int k = 0; k < postChunks; k++) {
+            long count = 0;
+            for (int p = k * chunkRows; p < Math.min(plan.posts(), (k + 1) * chunkRows); p++) count += Layout.imageCount(plan, p);
+            imageOffsets[k + 1] = imageOffsets[k] + count;
+        }
+        long totalImages = imageOffsets[postChunks];
+
+        int firstUserId = reserve("users", "user_id", plan.users());
+        int firstPostId = reserve("posts", "post_id", plan.posts());
+        int firstCommentId = plan.comments() > 0 ? reserve("comments", "comment_id", plan.comments()) : 0;
+        int firstImageId = totalImages > 0 ? reserve("post_images", "image_id", totalImages) : 0;
+        Layout layout = new Layout(plan, firstUserId, firstPostId);
+        log.info("seed plan {} (threads={}, chunk={} rows): user ids from {}, post ids from {}",
+                plan, threads, chunkRows, firstUserId, firstPostId);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (int k = 0, n = chunks(plan.users()); k < n; k++) {
+                int chunk = k;
+                tasks.add(() -> userChunk(layout, chunk));
+            }
+            long users = phase(pool, "users", tasks);
+
+            tasks.clear();
+            for (int k = 0; k < postChunks; k++) {
+                int chunk = k;
+                tasks.add(() -> postChunk(layout, chunk));
+            }
+            long postRows = phase(pool, "posts", tasks);
+
+            // 게시글/사용자만 참조하므로 세 테이블을 함께 적재
+            List<Callable<Long>> imageTasks = new ArrayList<>(), commentTasks = new ArrayList<>(), likeTasks = new ArrayList<>();
+            for (int k = 0; k < postChunks; k++) {
+                int chunk = k;
+                long firstId = firstImageId + imageOffsets[k];
+                imageTasks.add(() -> imageChunk(layout, chunk, firstId));
+            }
+            for (int k = 0, n = chunks(plan.comments()); k < n; k++) {
+                int chunk = k;
+                commentTasks.add(() -> commentChunk(layout, chunk, firstCommentId));
+            }
+            int usersPerLikeChunk = Math.max(1, chunkRows / Math.max(plan.likesPerUser(), 1));
+            if (plan.likesPerUser() > 0) {
+                for (int from = 0; from < plan.users(); from += usersPerLikeChunk) {
+                    int fromUser = from, toUser = Math.min(plan.users(), from + usersPerLikeChunk);
+                    likeTasks.add(() -> likeChunk(layout, fromUser, toUser));
+                }
+            }
+            List<Future<Long>> imageFutures = submitAll(pool, imageTasks);
+            List<Future<Long>> commentFutures = submitAll(pool, commentTasks);
+            List<Future<Long>> likeFutures = submitAll(pool, likeTasks);
+            long phaseStarted = System.currentTimeMillis();
+            long images = sum(imageFutures), comments = sum(commentFutures), likes = sum(likeFutures);
+            log.info("seed images/comments/likes: {}/{}/{} rows in {} ms",
+                    images, comments, likes, System.currentTimeMillis() - phaseStarted);
+
+            tasks.clear();
+            int lastPostId = firstPostId + plan.posts() - 1;
+            for (int from = firstPostId - 1; from < lastPostId; from += RECOUNT_RANGE) {
+                int fromExclusive = from, toInclusive = Math.min(lastPostId, from + RECOUNT_RANGE);
+                tasks.add(() -> (long) posts.recountCounters(fromExclusive, toInclusive));
+            }
+            phase(pool, "counters", tasks);
+
+            Result result = new Result(firstUserId, firstPostId, (int) users, (int) postRows, images, comments, likes,
+                    System.currentTimeMillis() - started);
+            log.info("seed done: {}", result);
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long userChunk(Layout layout, int chunk) {
+        List<Object[]> rows = new ArrayList<>(chunkRows);
+        int from = chunk * chunkRows, to = Math.min(layout.plan.users(), from + chunkRows);
+        for (int u = from; u < to; u++) {
+            int id = layout.firstUserId + u;
+            Timestamp at = Timestamp.valueOf(layout.origin.plusSeconds((long) u * layout.spanSeconds / layout.plan.users()));
+            rows.add(new Object[]{id, "s" + Integer.toString(id, 36), "seed" + id + "@example.com", "pass1234",
+                    null, false, at, at});
+        }
+        return insert(userInsert, rows);
+    }
+
+    private long postChunk(Layout layout, int chunk) {
+        SplittableRandom random = layout.random('P', chunk);
+        List<Object[]> rows = new ArrayList<>(chunkRows);
+        int from = chunk * chunkRows, to = Math.min(layout.plan.posts(), from + chunkRows);
+        for (int p = from; p < to; p++) {
+            int id = layout.firstPostId + p;
+            String title = TOPICS[random.nextInt(TOPICS.length)] + " " + TOPICS[random.nextInt(TOPICS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            String content = words(random, 20 + random.nextInt(180));
+            int images = layout.imageCount(p);
+            Timestamp at = Timestamp.valueOf(layout.publishedAt(p));
+            // 조회수는 좋아요와 같은 인기 순위를 따른다
+            int views = (int) (100_000 / Math.pow(layout.postRank(p), 0.8)) + random.nextInt(50);
+            rows.add(new Object[]{id, layout.author(random), title, content, Post.excerptOf(content), images,
+                    images > 0 ? imageUrl(id, 1) : null, false, at, at, views, 0, 0});
+        }
+        return insert(postInsert, rows);
+    }
+
+    private long imageChunk(Layout layout, int chunk, long firstImageId) {
+        List<Object[]> rows = new ArrayList<>();
+        int from = chunk * chunkRows, to = Math.min(layout.plan.posts(), from + chunkRows);
+        long imageId = firstImageId;
+        for (int p = from; p < to; p++) {
+            int postId = layout.firstPostId + p;
+            Timestamp at = Timestamp.valueOf(layout.publishedAt(p));
+            for (int sort = 1, n = layout.imageCount(p); sort <= n; sort++) {
+                rows.add(new Object[]{(int) imageId++, postId, imageUrl(postId, sort), sort, at});
+            }
+        }
+        return insert(imageInsert, rows);
+    }
+
+    private long commentChunk(Layout layout, int chunk, int firstCommentId) {
+        SplittableRandom random = layout.random('C', chunk);
+        List<Object[]> rows = new ArrayList<>(chunkRows);
+        int from = chunk * chunkRows, to = Math.min(layout.plan.comments(), from + chunkRows);
+        for (int c = from; c < to; c++) {
+            int p = layout.popularPost(random);
+            Timestamp at = Timestamp.valueOf(layout.activityAt(p, 7 * 24 * 3600, random));
+            rows.add(new Object[]{firstCommentId + c, layout.author(random), layout.firstPostId + p,
+                    words(random, 3 + random.nextInt(20)), false, at, at});
+        }
+        return insert(commentInsert, rows);
+    }
+
+    private long likeChunk(Layout layout, int fromUser, int toUser) {
+        SplittableRandom random = layout.random('L', fromUser);
+        List<Object[]> rows = new ArrayList<>();
+        int cap = Math.min(MAX_LIKES_PER_USER, Math.max(1, layout.plan.posts() / 2));
+        // 파레토(α=1.5): 평균이 likesPerUser가 되도록 최소값을 잡는다
+        double minimum = layout.plan.likesPerUser() / 3.0;
+        Set<Integer> liked = new HashSet<>();
+        for (int u = fromUser; u < toUser; u++) {
+            int count = (int) Math.min(cap, Math.floor(minimum / Math.pow(1.0 - random.nextDouble(), 1.0 / 1.5)));
+            liked.clear();
+            // 인기 게시글에 몰리므로 중복은 다시 뽑되, 시도 횟수는 제한
+            for (int attempt = 0; liked.size() < count && attempt < count * 20; attempt++) {
+                int p = layout.popularPost(random);
+                if (!liked.add(p)) continue;
+                Timestamp at = Timestamp.valueOf(layout.activityAt(p, 3 * 24 * 3600, random));
+                rows.add(new Object[]{layout.firstUserId + u, layout.firstPostId + p, at});
+            }
+        }
+        return insert(likeInsert, rows);
+    }
+
+    private long insert(MultiRowInsert statement, List<Object[]> rows) {
+        tx.executeWithoutResult(status -> statement.insert(jdbc, rows));
+        return rows.size();
+    }
+
+    private int reserve(String table, String idColumn, long count) {
+        long start = ids.reserveRange(table, idColumn, count);
+        if (start + count - 1 > Integer.MAX_VALUE) throw new IllegalStateException(table + " id range exceeds int: " + start);
+        return (int) start;
+    }
+
+    private int chunks(int rows) {
+        return (rows + chunkRows - 1) / chunkRows;
+    }
+
+    private long phase(ExecutorService pool, String name, List<Callable<Long>> tasks) {
+        long started = System.currentTimeMillis();
+        long rows = sum(submitAll(pool, tasks));
+        log.info("seed {}: {} rows in {} ms", name, rows, System.currentTimeMillis() - started);
+        return rows;
+    }
+
+    private static List<Future<Long>> submitAll(ExecutorService pool, List<Callable<Long>> tasks) {
+        List<Future<Long>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Long> t : tasks) futures.add(pool.submit(t));
+        return futures;
+    }
+
+    private static long sum(List<Future<Long>> futures) {
+        long total = 0;
+        try {
+            for (Future<Long> f : futures) total += f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("seed interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("seed failed", e.getCause());
+        }
+        return total;
+    }
+
+    private static String words(SplittableRandom random, int count) {
+        StringBuilder sb = new StringBuilder(count * 5);
+        for (int w = 0; w < count; w++) {
+            if (w > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String imageUrl(int postId, int sort) {
+        return "https://seed.example.com/posts/" + postId + "/" + sort + ".jpg";
+    }
+
+    /**
+     * 행 번호(0부터) → 값 규칙. 모두 seed와 번호만으로 정해진다
+     */
+    private static final class Layout {
+        final Plan plan;
+        final LocalDateTime origin;
+        final long spanSeconds;
+        final ZipfSampler postPopularity;
+        final ZipfSampler userActivity;
+        final long postMultiplier;
+        final long postInverse;
+        final long userMultiplier;
+        final int firstUserId;
+        final int firstPostId;
+
+        Layout(Plan plan, int firstUserId, int firstPostId) {
+            this.plan = plan;
+            this.firstUserId = firstUserId;
+            this.firstPostId = firstPostId;
+            this.spanSeconds = Math.max(1, plan.days()) * 24L * 3600;
+            this.origin = plan.until().minusSeconds(spanSeconds);
+            this.postPopularity = new ZipfSampler(plan.posts(), plan.zipfExponent());
+            this.userActivity = new ZipfSampler(plan.users(), 1.0);
+            // 순위 → 번호를 곱셈 순열로 흩어 인기 게시글/사용자가 앞쪽 id에 몰리지 않게 한다
+            this.postMultiplier = coprime(plan.posts(), 1_000_003L);
+            this.postInverse = BigInteger.valueOf(postMultiplier).modInverse(BigInteger.valueOf(plan.posts())).longValue();
+            this.userMultiplier = coprime(plan.users(), 7_919L);
+        }
+
+        SplittableRandom random(char table, int chunk) {
+            return new SplittableRandom(mix(plan.seed() * 31 + table) ^ mix(chunk + 1L));
+        }
+
+        int imageCount(int post) {
+            return imageCount(plan, post);
+        }
+
+        static int imageCount(Plan plan, int post) {
+            if (plan.maxImagesPerPost() <= 0) return 0;
+            long h = mix(plan.seed() ^ mix(post + 0x1000_0000L));
+            return Math.floorMod(h, 10) < 4 ? 1 + Math.floorMod(h >>> 8, plan.maxImagesPerPost()) : 0;
+        }
+
+        LocalDateTime publishedAt(int post) {
+            long step = Math.max(1, spanSeconds / plan.posts());
+            long jitter = Math.floorMod(mix(plan.seed() ^ post), step);
+            return origin.plusSeconds(post * spanSeconds / plan.posts() + jitter);
+        }
+
+        /**
+         * 게시글 작성 후 windowSeconds 이내의 활동(댓글, 좋아요) 시각 - until을 넘지 않는다
+         * (until 가까이 작성된 게시글은 남은 구간 안에서만 뽑는다)
+         */
+        LocalDateTime activityAt(int post, long windowSeconds, SplittableRandom random) {
+            LocalDateTime published = publishedAt(post);
+            long room = Math.min(windowSeconds, Duration.between(published, plan.until()).getSeconds());
+            return room <= 0 ? published : published.plusSeconds(random.nextLong(room));
+        }
+
+        int popularPost(SplittableRandom random) {
+            return (int) ((postPopularity.sample(random) - 1) * postMultiplier % plan.posts());
+        }
+
+        int postRank(int post) {
+            return (int) (post * postInverse % plan.posts()) + 1;
+        }
+
+        int author(SplittableRandom random) {
+            return firstUserId + (int) ((userActivity.sample(random) - 1) * userMultiplier % plan.users());
+        }
+
+        private static long coprime(int n, long candidate) {
+            long m = candidate % n;
+            if (m == 0) m = 1;
+            while (BigInteger.valueOf(m).gcd(BigInteger.valueOf(n)).intValue() != 1) m = (m + 1) % n == 0 ? 1 : m + 1;
+            return m;
+        }
+
+        /** splitmix64 최종 혼합 */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ktb.community.seed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * seed 프로필로 기동하면 합성 데이터를 적재하고 종료
+ * - 예: ./gradlew bootRun --args='--spring.profiles.active=seed --spring.main.web-application-type=none
+ *       --seed.users=1000000 --seed.posts=5000000 --seed.comments=20000000 --seed.likes-per-user=30'
+ * - seed.until(기본: 오늘 0시)과 seed.random-seed가 같으면 같은 데이터
+ */
+@Component
+@Profile("seed")
+public class DatasetGeneratorRunner implements ApplicationRunner {
+    private final DatasetGenerator generator;
+    private final ConfigurableApplicationContext context;
+    private final DatasetGenerator.Plan plan;
+    private final boolean exitWhenDone;
+
+    public DatasetGeneratorRunner(DatasetGenerator generator, ConfigurableApplicationContext context,
+                                  @Value("${seed.users:10000}") int users,
+                                  @Value("${seed.posts:50000}") int posts,
+                                  @Value("${seed.comments:200000}") int comments,
+                                  @Value("${seed.likes-per-user:20}") int likesPerUser,
+                                  @Value("${seed.max-images-per-post:5}") int maxImagesPerPost,
+                                  @Value("${seed.zipf-exponent:1.1}") double zipfExponent,
+                                  @Value("${seed.random-seed:42}") long seed,
+                                  @Value("${seed.days:365}") int days,
+                                  @Value("${seed.until:}") String until,
+                                  @Value("${seed.exit-when-done:true}") boolean exitWhenDone) {
+        this.generator = generator;
+        this.context = context;
+        this.plan = new DatasetGenerator.Plan(users, posts, comments, likesPerUser, maxImagesPerPost, zipfExponent, seed, days,
+                until.isBlank() ? LocalDate.now().atStartOfDay() : LocalDateTime.parse(until));
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generator.generate(plan);
+        if (exitWhenDone) System.exit(SpringApplication.exit(context));
+    }
+}
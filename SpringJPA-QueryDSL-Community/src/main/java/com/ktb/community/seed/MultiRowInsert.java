@@ -0,0 +1,65 @@
+package com.ktb.community.seed;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * 다중 행 INSERT (INSERT ... VALUES (...), (...), ...) 를 JDBC 배치로 실행
+ * - rowsPerStatement행을 한 문장으로 묶고, 그런 문장들을 한 배치로 보낸다 (남는 행은 마지막 한 문장)
+ */
+final class MultiRowInsert {
+    private final String prefix;
+    private final String rowPlaceholder;
+    private final int rowsPerStatement;
+    private final String fullSql;
+
+    MultiRowInsert(String table, List<String> columns, int rowsPerStatement) {
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholder = "(" + String.join(", ", columns.stream().map(c -> "?").toList()) + ")";
+        this.rowsPerStatement = Math.max(rowsPerStatement, 1);
+        this.fullSql = sql(this.rowsPerStatement);
+    }
+
+    void insert(JdbcTemplate jdbc, List<Object[]> rows) {
+        if (rows.isEmpty()) return;
+        jdbc.execute((ConnectionCallback<Void>) c -> {
+            int full = rows.size() / rowsPerStatement;
+            if (full > 0) {
+                try (PreparedStatement ps = c.prepareStatement(fullSql)) {
+                    for (int s = 0; s < full; s++) {
+                        bind(ps, rows, s * rowsPerStatement, rowsPerStatement);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+            }
+            int rest = rows.size() - full * rowsPerStatement;
+            if (rest > 0) {
+                try (PreparedStatement ps = c.prepareStatement(sql(rest))) {
+                    bind(ps, rows, full * rowsPerStatement, rest);
+                    ps.executeUpdate();
+                }
+            }
+            return null;
+        });
+    }
+
+    private String sql(int rowCount) {
+        StringBuilder sb = new StringBuilder(prefix.length() + rowCount * (rowPlaceholder.length() + 2)).append(prefix);
+        for (int r = 0; r < rowCount; r++) {
+            if (r > 0) sb.append(", ");
+            sb.append(rowPlaceholder);
+        }
+        return sb.toString();
+    }
+
+    private static void bind(PreparedStatement ps, List<Object[]> rows, int from, int count) throws java.sql.SQLException {
+        int index = 1;
+        for (int r = from; r < from + count; r++) {
+            for (Object value : rows.get(r)) ps.setObject(index++, value);
+        }
+    }
+}
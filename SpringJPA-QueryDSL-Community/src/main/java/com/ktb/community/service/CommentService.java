@@ -2,37 +2,61 @@ package com.ktb.community.service;
 
 import com.ktb.community.domain.*;
 import com.ktb.community.dto.CommentDtos.*;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.event.CommentEvents;
 import com.ktb.community.exception.ApiException;
 import com.ktb.community.exception.ErrorCode;
 import com.ktb.community.repository.*;
+import com.ktb.community.util.SingleFlight;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 public class CommentService {
     private final CommentRepository comments;
     private final PostRepository posts;
     private final UserRepository users;
+    private final ApplicationEventPublisher events;
+
+    // 같은 페이지 동시 조회 합치기 (인기 게시글 댓글 목록) - 호출자들이 공유하므로 엔티티가 아닌 불변 DTO로
+    private final SingleFlight<PageKey, CursorPage<CommentItem>> listFlight = new SingleFlight<>();
+    private record PageKey(Integer postId, String cursor, int size) { }
 
-    public CommentService(CommentRepository comments, PostRepository posts, UserRepository users) {
-        this.comments = comments; this.posts = posts; this.users = users;
+    public CommentService(CommentRepository comments, PostRepository posts, UserRepository users,
+                          ApplicationEventPublisher events) {
+        this.comments = comments; this.posts = posts; this.users = users; this.events = events;
     }
 
-    public List<Comment> list(Integer postId) {
-        posts.findActiveById(postId).orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found"));
-        return comments.findActiveByPostId(postId);
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 100;
+
+    /**
+     * 댓글 목록 (커서 페이지) - total_count는 게시글의 comment_count 사용
+     */
+    public CursorPage<CommentItem> list(Integer postId, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        String c = cursor == null || cursor.isBlank() ? null : cursor;
+        return listFlight.load(new PageKey(postId, c, size), () -> {
+            // 게시글 엔티티(본문 포함) 대신 comment_count 한 컬럼만 읽는다
+            Integer commentCount = posts.findActiveCommentCount(postId);
+            if (commentCount == null) throw new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found");
+            CursorPage<Comment> page = comments.findActiveByPostId(postId, c, size);
+            return new CursorPage<>(page.getContent().stream().map(CommentItem::from).toList(),
+                    page.getNextCursor(), (long) commentCount);
+        });
     }
 
     @Transactional
     public Comment create(Integer userId, Integer postId, CreateCommentRequest req) {
         Post post = posts.findActiveById(postId).orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found"));
         User user = users.findById(userId).orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "token_not_valid"));
+        // 카운터를 먼저 갱신해 게시글 행 배타 잠금을 잡은 뒤 댓글 INSERT (FK 공유 잠금과의 교착 방지)
+        posts.increaseCommentCount(postId);
         Comment c = new Comment();
         c.setPost(post); c.setAuthor(user); c.setContent(req.content());
         c = comments.save(c);
-        post.setCommentCount(Math.max(0, post.getCommentCount() + 1)); posts.save(post);
+        events.publishEvent(new CommentEvents.Created(postId, c.getId()));
         return c;
     }
 
@@ -48,10 +72,10 @@ public class CommentService {
     public void softDelete(Integer userId, Integer commentId) {
         Comment c = comments.findById(commentId).orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "comment_not_found"));
         if (!c.getAuthor().getId().equals(userId)) throw new ApiException(ErrorCode.FORBIDDEN, "not_authorized");
-        if (!c.isDeleted()) {
-            c.setDeleted(true); comments.save(c);
-            Post p = c.getPost();
-            p.setCommentCount(Math.max(0, p.getCommentCount() - 1)); posts.save(p);
+        // 읽은 값(isDeleted)으로 판단하지 않고 조건부 UPDATE로 - 실제로 삭제 표시한 요청만 카운터를 줄인다
+        if (comments.markDeleted(commentId) == 1) {
+            posts.decreaseCommentCount(c.getPost().getId());
+            events.publishEvent(new CommentEvents.Deleted(c.getPost().getId(), commentId));
         }
     }
 }
@@ -0,0 +1,114 @@
+package com.ktb.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.community.event.PostEvents;
+import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 좋아요한 게시글 id 비트맵 (Roaring 압축) - "X가 Y를 좋아요했는가" 조회를 DB 대신 메모리에서 처리
+ * - 처음 조회 시 post_likes에서 한 번 읽어 적재, 이후 좋아요/취소 커밋 이벤트로 갱신
+ * - 비트맵 크기로 가중치를 매겨 총 바이트를 제한하고, 오래 안 쓰인 사용자부터 제거
+ * - 비트맵은 변경 시 복사본을 만들어 교체하므로 조회는 잠금 없이 읽는다
+ * - 적재(DB 조회)는 Caffeine compute 밖에서 SingleFlight로 실행 (가상 스레드가 모니터를 쥔 채 대기하지 않도록)
+ *   적재 중 같은 사용자의 좋아요 변경이 커밋되면 적재 결과는 버리고 다음 조회 때 다시 읽는다
+ * - 인스턴스 로컬 상태라 다중 인스턴스 배포에서는 likes.index.enabled=false(기본값)로 DB 조회를 사용
+ */
+@Component
+public class LikedPostIndex {
+    /** 비트맵 외 항목당 대략의 고정 비용 (키, 캐시 노드) */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int EPOCH_STRIPES = 256;
+
+    private final PostLikeRepository likes;
+    private final boolean enabled;
+    private final Cache<Integer, RoaringBitmap> bitmaps;
+    private final SingleFlight<Integer, RoaringBitmap> loads = new SingleFlight<>();
+    // 좋아요 변경마다 사용자 id 구역별로 증가
+    private final AtomicLongArray changes = new AtomicLongArray(EPOCH_STRIPES);
+
+    public LikedPostIndex(PostLikeRepository likes, MeterRegistry registry,
+                          @Value("${likes.index.enabled:false}") boolean enabled,
+                          @Value("${likes.index.max-bytes:67108864}") long maxBytes) {
+        this.likes = likes;
+        this.enabled = enabled;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Integer userId, RoaringBitmap b) -> b.getSizeInBytes() + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        if (enabled) CaffeineCacheMetrics.monitor(registry, bitmaps, "likes.user-bitmaps");
+    }
+
+    public boolean isEnabled() { return enabled; }
+
+    public boolean isLiked(Integer userId, Integer postId) {
+        if (!enabled) return likes.findByUserIdAndPostId(userId, postId).isPresent();
+        return bitmapOf(userId).contains(postId);
+    }
+
+    /**
+     * postIds 중 사용자가 좋아요한 id
+     */
+    public Set<Integer> likedAmong(Integer userId, Collection<Integer> postIds) {
+        if (!enabled) return likes.findLikedPostIds(userId, postIds);
+        RoaringBitmap bitmap = bitmapOf(userId);
+        Set<Integer> liked = new HashSet<>();
+        for (Integer id : postIds) if (bitmap.contains(id)) liked.add(id);
+        return liked;
+    }
+
+    /**
+     * 커밋된 좋아요 변경만 반영 - 아직 적재되지 않은 사용자는 다음 조회 때 DB에서 읽으므로 건너뛴다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(PostEvents.LikeChanged e) {
+        if (!enabled) return;
+        changes.incrementAndGet(stripe(e.userId()));
+        bitmaps.asMap().computeIfPresent(e.userId(), (userId, current) -> {
+            RoaringBitmap next = current.clone();
+            if (e.liked()) next.add(e.postId()); else next.remove(e.postId());
+            return next;
+        });
+    }
+
+    private RoaringBitmap bitmapOf(Integer userId) {
+        RoaringBitmap hit = bitmaps.getIfPresent(userId);
+        if (hit != null) return hit;
+        return loads.load(userId, () -> {
+            RoaringBitmap again = bitmaps.getIfPresent(userId);
+            if (again != null) return again;
+            long epoch = changes.get(stripe(userId));
+            RoaringBitmap loaded = load(userId);
+            if (changes.get(stripe(userId)) == epoch) {
+                bitmaps.put(userId, loaded);
+                // 넣는 사이에 변경이 커밋됐으면 되돌린다 (이후 변경은 computeIfPresent가 반영)
+                if (changes.get(stripe(userId)) != epoch) bitmaps.asMap().remove(userId, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    private static int stripe(Integer userId) { return Math.floorMod(userId, EPOCH_STRIPES); }
+
+    private RoaringBitmap load(Integer userId) {
+        List<Integer> ids = likes.findAllLikedPostIds(userId);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Integer id : ids) bitmap.add(id);
+        bitmap.runOptimize();
+        return bitmap;
+    }
+}
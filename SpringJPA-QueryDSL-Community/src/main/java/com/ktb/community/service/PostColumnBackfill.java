@@ -0,0 +1,54 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비정규화 컬럼(image_count, thumbnail_url, excerpt) 일회성 백필
+ * - posts.backfill.enabled=true로 기동했을 때만 실행 (컬럼 추가 배포 직후 한 번)
+ * - 컬럼/인덱스는 먼저 db/migration/V2__posts_list_columns.sql로 만들어 둔다 (ddl-auto를 쓰지 않는 DB)
+ * - post_id 구간(chunk) 단위로 나눠 갱신하므로 한 번에 잡는 행 잠금이 짧다
+ * - 여러 번 실행해도 결과가 같다 (post_images 기준 재계산, excerpt는 비어 있는 행만)
+ * - 기동 이벤트 스레드를 붙잡지 않도록 @Async로 실행
+ */
+@Component
+public class PostColumnBackfill {
+    private static final Logger log = LoggerFactory.getLogger(PostColumnBackfill.class);
+
+    private final PostRepository posts;
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public PostColumnBackfill(PostRepository posts,
+                              @Value("${posts.backfill.enabled:false}") boolean enabled,
+                              @Value("${posts.backfill.chunk-size:1000}") int chunkSize) {
+        this.posts = posts; this.enabled = enabled; this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) run();
+    }
+
+    /** 전체 백필 실행 - 갱신한 게시글 수 반환 */
+    public int run() {
+        long started = System.currentTimeMillis();
+        int maxId = posts.findMaxId();
+        int updated = 0, excerpts = 0;
+        for (int from = 0; from < maxId; from += chunkSize) {
+            int to = (int) Math.min((long) from + chunkSize, maxId);
+            updated += posts.backfillImageStats(from, to);
+            excerpts += posts.backfillExcerpts(from, to);
+        }
+        log.info("post column backfill done: {} image stats, {} excerpts in {} ms",
+                updated, excerpts, System.currentTimeMillis() - started);
+        return updated;
+    }
+}
@@ -0,0 +1,130 @@
+package com.ktb.community.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.community.dto.PostDtos.ImageSummary;
+import com.ktb.community.dto.PostDtos.PostDetail;
+import com.ktb.community.event.CommentEvents;
+import com.ktb.community.event.PostEvents;
+import com.ktb.community.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 스냅샷 캐시 (read-through)
+ * - 본문/작성자/이미지처럼 드물게 바뀌는 부분만 스냅샷으로 보관, 크기 가중치 + TTL로 제한
+ * - 수정/삭제/댓글 수 변경은 커밋 후 항목 무효화
+ * - 조회수/좋아요 수는 항목을 버리지 않고 커밋된 이벤트로 누적한 변화량을 덧씌워 응답한다
+ *   (이벤트와 적재가 엇갈린 경우의 오차는 TTL 안에서만 남는다)
+ * - 적재는 Caffeine compute 밖에서 실행 (compute는 해시 빈 모니터를 쥐므로 DB 대기 동안 가상 스레드가 고정된다)
+ *   같은 게시글 동시 적재는 SingleFlight로 합치고, 적재 중 무효화가 있었으면 결과를 캐시에 넣지 않는다
+ */
+@Component
+public class PostDetailCache {
+    /** 문자열 외 항목당 대략의 고정 비용 */
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static final int EPOCH_STRIPES = 256;
+
+    static final class Entry {
+        private final PostDetail snapshot;
+        private final AtomicInteger viewDelta = new AtomicInteger();
+        private final AtomicInteger likeDelta = new AtomicInteger();
+        Entry(PostDetail snapshot) { this.snapshot = snapshot; }
+
+        PostDetail current() {
+            return snapshot.withCounters(snapshot.viewCount() + viewDelta.get(),
+                    Math.max(0, snapshot.likeCount() + likeDelta.get()));
+        }
+    }
+
+    private final boolean enabled;
+    private final Cache<Integer, Entry> cache;
+    private final SingleFlight<Integer, Entry> loads = new SingleFlight<>();
+    // 무효화마다 게시글 id 구역별로 증가 - 적재 시작 후 값이 바뀌었으면 적재 결과가 오래됐을 수 있다
+    private final AtomicLongArray invalidations = new AtomicLongArray(EPOCH_STRIPES);
+
+    public PostDetailCache(MeterRegistry registry,
+                           @Value("${posts.detail-cache.enabled:true}") boolean enabled,
+                           @Value("${posts.detail-cache.max-bytes:33554432}") long maxBytes,
+                           @Value("${posts.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Integer id, Entry e) -> weigh(e.snapshot))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        if (enabled) CaffeineCacheMetrics.monitor(registry, cache, "posts.detail");
+    }
+
+    /**
+     * 캐시에 있으면 스냅샷 + 실시간 카운터, 없으면 loader로 적재 (loader 예외는 캐시하지 않고 그대로 전파)
+     */
+    public PostDetail get(Integer postId, Function<Integer, PostDetail> loader) {
+        if (!enabled) return loads.load(postId, () -> new Entry(loader.apply(postId))).current();
+        Entry hit = cache.getIfPresent(postId);
+        if (hit != null) return hit.current();
+        return loads.load(postId, () -> {
+            // 직전 적재가 방금 끝났다면 그 결과 사용
+            Entry again = cache.getIfPresent(postId);
+            if (again != null) return again;
+            long epoch = invalidations.get(stripe(postId));
+            Entry loaded = new Entry(loader.apply(postId));
+            if (invalidations.get(stripe(postId)) == epoch) {
+                cache.put(postId, loaded);
+                // 넣는 사이에 무효화됐으면 되돌린다
+                if (invalidations.get(stripe(postId)) != epoch) cache.asMap().remove(postId, loaded);
+            }
+            return loaded;
+        }).current();
+    }
+
+    public void invalidate(Integer postId) {
+        invalidations.incrementAndGet(stripe(postId));
+        cache.invalidate(postId);
+    }
+
+    private static int stripe(Integer postId) { return Math.floorMod(postId, EPOCH_STRIPES); }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewed(PostEvents.Viewed e) {
+        Entry entry = cache.getIfPresent(e.postId());
+        if (entry != null) entry.viewDelta.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(PostEvents.LikeChanged e) {
+        Entry entry = cache.getIfPresent(e.postId());
+        if (entry != null) entry.likeDelta.addAndGet(e.liked() ? 1 : -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(PostEvents.Saved e) { invalidate(e.postId()); }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(PostEvents.Deleted e) { invalidate(e.postId()); }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentEvents.Created e) { invalidate(e.postId()); }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentEvents.Deleted e) { invalidate(e.postId()); }
+
+    private static int weigh(PostDetail d) {
+        long bytes = ENTRY_OVERHEAD_BYTES;
+        bytes += 2L * (length(d.title()) + length(d.content()));
+        if (d.author() != null) bytes += 2L * (length(d.author().nickname()) + length(d.author().profileImageUrl()));
+        for (ImageSummary i : d.images()) bytes += 48 + 2L * length(i.imageUrl());
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int length(String s) { return s == null ? 0 : s.length(); }
+}
@@ -1,10 +1,15 @@
 package com.ktb.community.service;
 
 import com.ktb.community.domain.*;
+import com.ktb.community.dto.CursorPage;
 import com.ktb.community.dto.PostDtos.*;
+import com.ktb.community.event.PostEvents;
 import com.ktb.community.exception.ApiException;
 import com.ktb.community.exception.ErrorCode;
 import com.ktb.community.repository.*;
+import com.ktb.community.trending.TrendingBoard;
+import com.ktb.community.util.SingleFlight;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 public class PostService {
@@ -19,35 +25,123 @@ public class PostService {
     private final UserRepository users;
     private final PostLikeRepository likes;
     private final PostImageRepository images;
+    private final ApplicationEventPublisher events;
+    private final ViewCountBuffer viewCounts;
+    private final LikedPostIndex likedPosts;
+    private final TrendingBoard trending;
+    private final PostDetailCache details;
 
-    public PostService(PostRepository posts, UserRepository users, PostLikeRepository likes, PostImageRepository images) {
-        this.posts = posts; this.users = users; this.likes = likes; this.images = images;
+    // 동일 요청 동시 조회 합치기 (필터 없는 피드 첫 페이지, 상세는 PostDetailCache에서)
+    private final SingleFlight<FeedKey, Page<PostSummary>> feedPageFlight = new SingleFlight<>();
+    private final SingleFlight<FeedKey, CursorPage<PostSummary>> feedCursorFlight = new SingleFlight<>();
+    private record FeedKey(String sort, int size, boolean withTotal) { }
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    public PostService(PostRepository posts, UserRepository users, PostLikeRepository likes, PostImageRepository images,
+                       ApplicationEventPublisher events, ViewCountBuffer viewCounts, LikedPostIndex likedPosts,
+                       TrendingBoard trending, PostDetailCache details) {
+        this.posts = posts; this.users = users; this.likes = likes; this.images = images; this.events = events;
+        this.viewCounts = viewCounts; this.likedPosts = likedPosts; this.trending = trending; this.details = details;
     }
 
-    public Page<Post> search(String query, Integer authorId, Boolean hasImage, java.time.LocalDateTime from, java.time.LocalDateTime to,
+    public Page<PostSummary> search(Integer viewerId, String query, Integer authorId, Boolean hasImage, java.time.LocalDateTime from, java.time.LocalDateTime to,
                              int page, int size, String sortKey) {
+        page = Math.max(page, 0);
+        size = pageSize(size);
         Sort sort = switch (sortKey == null ? "LATEST" : sortKey.toUpperCase()) {
             case "POPULAR" -> Sort.by(Sort.Direction.DESC, "likeCount");
             case "VIEW" -> Sort.by(Sort.Direction.DESC, "viewCount");
             default -> Sort.by(Sort.Direction.DESC, "publishedAt");
         };
         Pageable pageable = PageRequest.of(page, size, sort);
-        return posts.search(query, authorId, hasImage, from, to, pageable);
+        Page<PostSummary> result = page == 0 && isUnfiltered(query, authorId, hasImage, from, to)
+                ? feedPageFlight.load(new FeedKey(sort.toString(), size, true),
+                        () -> posts.search(null, null, null, null, null, pageable))
+                : posts.search(query, authorId, hasImage, from, to, pageable);
+        if (viewerId == null) return result;
+        return new PageImpl<>(withLikeStatus(viewerId, result.getContent()), result.getPageable(), result.getTotalElements());
     }
 
-    public Post get(Integer id, boolean increaseView) {
-        Post p = posts.findActiveById(id).orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found"));
-        if (increaseView) { p.setViewCount(p.getViewCount() + 1); posts.save(p); }
-        return p;
+    public CursorPage<PostSummary> searchByCursor(Integer viewerId, String query, Integer authorId, Boolean hasImage, java.time.LocalDateTime from, java.time.LocalDateTime to,
+                                           String cursor, int size, String sortKey, boolean withTotal) {
+        int limit = pageSize(size);
+        String key = switch (sortKey == null ? "LATEST" : sortKey.toUpperCase()) {
+            case "POPULAR" -> "POPULAR";
+            case "VIEW" -> "VIEW";
+            default -> "LATEST";
+        };
+        CursorPage<PostSummary> slice = (cursor == null || cursor.isBlank()) && isUnfiltered(query, authorId, hasImage, from, to)
+                ? feedCursorFlight.load(new FeedKey(key, limit, withTotal),
+                        () -> posts.searchByCursor(null, null, null, null, null, key, null, limit, withTotal))
+                : posts.searchByCursor(query, authorId, hasImage, from, to, key, cursor, limit, withTotal);
+        if (viewerId == null) return slice;
+        return new CursorPage<>(withLikeStatus(viewerId, slice.getContent()), slice.getNextCursor(), slice.getTotalCount());
+    }
+
+    /** 목록 페이지 크기는 1..MAX_PAGE_SIZE로 맞춘다 (오프셋/커서 모드 공통) */
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static boolean isUnfiltered(String query, Integer authorId, Boolean hasImage,
+                                        java.time.LocalDateTime from, java.time.LocalDateTime to) {
+        return (query == null || query.isBlank()) && authorId == null && hasImage == null && from == null && to == null;
     }
 
-    public Post getWithLikeStatus(Integer userId, Integer postId, boolean increaseView) {
-        Post p = get(postId, increaseView);
-        if (userId != null) {
-            boolean isLiked = likes.findByUserIdAndPostId(userId, postId).isPresent();
-            p.setLiked(isLiked);
+    /**
+     * 목록의 좋아요 여부를 한 번의 IN 조회로 채운다
+     */
+    private List<PostSummary> withLikeStatus(Integer viewerId, List<PostSummary> content) {
+        Set<Integer> liked = likedPosts.likedAmong(viewerId, content.stream().map(PostSummary::id).toList());
+        return content.stream().map(s -> s.withLiked(liked.contains(s.id()))).toList();
+    }
+
+    /**
+     * 게시글 상세 - 스냅샷은 PostDetailCache에서, 좋아요 여부는 조회자별로 계산
+     */
+    public PostDetail detail(Integer viewerId, Integer postId, boolean increaseView) {
+        PostDetail d = details.get(postId, this::loadDetail);
+        if (increaseView) {
+            // DB 반영은 ViewCountBuffer가 배치로 처리, 캐시 항목/인기글에는 Viewed 이벤트로 반영
+            viewCounts.increment(postId);
+            events.publishEvent(new PostEvents.Viewed(postId));
+            d = d.withCounters(d.viewCount() + 1, d.likeCount());
         }
-        return p;
+        if (viewerId != null) d = d.withLiked(likedPosts.isLiked(viewerId, postId));
+        return d;
+    }
+
+    /** 캐시 미스 시 적재 (게시글+작성자+이미지 쿼리 1회) - 조회수는 아직 DB에 반영되지 않은 버퍼분까지 포함 */
+    private PostDetail loadDetail(Integer postId) {
+        Post p = posts.findActiveDetailById(postId).orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found"));
+        User a = p.getAuthor();
+        List<ImageSummary> imgs = p.getImages().stream()
+                .sorted(java.util.Comparator.comparing(PostImage::getSortOrder))
+                .map(i -> new ImageSummary(i.getId(), i.getImageUrl(), i.getSortOrder()))
+                .toList();
+        return new PostDetail(p.getId(), p.getTitle(), p.getContent(),
+                new AuthorSummary(a.getId(), a.getNickname(), a.getProfileImageUrl()), imgs,
+                p.getPublishedAt(), p.getUpdatedAt(),
+                p.getViewCount() + (int) viewCounts.pending(postId), p.getLikeCount(), p.getCommentCount(), false);
+    }
+
+    /**
+     * 실시간 인기글 - 순위는 메모리 리더보드에서, DB는 상위 게시글 카드 조회 1회만
+     */
+    public List<PostSummary> trending(int limit) {
+        List<TrendingBoard.Entry> ranked = trending.top(limit);
+        if (ranked.isEmpty()) return List.of();
+        Map<Integer, PostSummary> byId = new java.util.HashMap<>();
+        for (PostSummary s : posts.findSummariesByIds(ranked.stream().map(TrendingBoard.Entry::postId).toList())) {
+            byId.put(s.id(), s);
+        }
+        List<PostSummary> result = new ArrayList<>(ranked.size());
+        for (TrendingBoard.Entry e : ranked) {
+            PostSummary s = byId.get(e.postId());
+            if (s != null) result.add(s);
+        }
+        return result;
     }
 
     @Transactional
@@ -57,26 +151,15 @@ public class PostService {
 
         Post p = new Post();
         p.setAuthor(author); p.setTitle(req.title()); p.setContent(req.content());
+        List<String> urls = splitImageUrls(req.imageUrls());
+        // 게시글 INSERT 한 번에 image_count/thumbnail_url까지 포함
+        p.setImageStats(urls.size(), urls.isEmpty() ? null : urls.get(0));
         p = posts.save(p);
-        if (req.imageUrls() != null && !req.imageUrls().trim().isEmpty()) {
-            List<PostImage> list = new ArrayList<>();
-            // imageUrls를 쉼표로 분리하여 개별 URL로 처리
-            String[] imageUrls = req.imageUrls().split(",");
-            int i = 0;
-            for (String url : imageUrls) {
-                String trimmedUrl = url.trim();
-                if (!trimmedUrl.isEmpty()) {
-                    PostImage img = new PostImage();
-                    img.setPost(p);
-                    img.setImageUrl(trimmedUrl);
-                    img.setSortOrder(++i);
-                    list.add(img);
-                }
-            }
-            if (!list.isEmpty()) {
-                images.saveAll(list);
-            }
+        List<PostImage> list = toImages(p, urls);
+        if (!list.isEmpty()) {
+            images.saveAll(list);
         }
+        events.publishEvent(new PostEvents.Saved(p.getId(), p.getTitle(), p.getContent(), p.getPublishedAt()));
         return p;
     }
 
@@ -88,64 +171,93 @@ public class PostService {
         if (req.content() != null) p.setContent(req.content());
         p = posts.save(p);
         if (req.imageUrls() != null && !req.imageUrls().trim().isEmpty()) {
-            var old = images.findByPostIdOrderBySort(postId);
-            images.deleteAll(old);
-            images.flush();
-            List<PostImage> list = new ArrayList<>();
-            // imageUrls를 쉼표로 분리하여 개별 URL로 처리
-            String[] imageUrls = req.imageUrls().split(",");
-            int i = 0;
-            for (String url : imageUrls) {
-                String trimmedUrl = url.trim();
-                if (!trimmedUrl.isEmpty()) {
-                    PostImage img = new PostImage();
-                    img.setPost(p);
-                    img.setImageUrl(trimmedUrl);
-                    img.setSortOrder(++i);
-                    list.add(img);
-                }
-            }
-            if (!list.isEmpty()) {
-                images.saveAll(list);
-            }
+            List<String> urls = splitImageUrls(req.imageUrls());
+            p.setImageStats(urls.size(), urls.isEmpty() ? null : urls.get(0));
+            // 전체 삭제 후 재삽입 대신 차이만 반영 (같은 URL을 다시 보내면 이미지 테이블 쓰기 없음)
+            images.reconcile(postId, urls);
         }
+        events.publishEvent(new PostEvents.Saved(p.getId(), p.getTitle(), p.getContent(), p.getPublishedAt()));
         return p;
     }
 
+    /** imageUrls를 쉼표로 분리하여 개별 URL로 처리 (빈 항목 제외) */
+    private static List<String> splitImageUrls(String imageUrls) {
+        List<String> urls = new ArrayList<>();
+        if (imageUrls == null) return urls;
+        for (String url : imageUrls.split(",")) {
+            String trimmedUrl = url.trim();
+            if (!trimmedUrl.isEmpty()) urls.add(trimmedUrl);
+        }
+        return urls;
+    }
+
+    /** sort_order는 1부터 (1번이 썸네일) */
+    private static List<PostImage> toImages(Post p, List<String> urls) {
+        List<PostImage> list = new ArrayList<>(urls.size());
+        int i = 0;
+        for (String url : urls) {
+            PostImage img = new PostImage();
+            img.setPost(p);
+            img.setImageUrl(url);
+            img.setSortOrder(++i);
+            list.add(img);
+        }
+        return list;
+    }
+
     public void softDelete(Integer authorId, Integer postId) {
         Post p = posts.findActiveById(postId).orElseThrow(() -> new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found"));
         if (!p.getAuthor().getId().equals(authorId)) throw new ApiException(ErrorCode.FORBIDDEN, "not_authorized");
         p.setDeleted(true); posts.save(p);
+        events.publishEvent(new PostEvents.Deleted(postId));
     }
 
+    /**
+     * 좋아요 토글
+     * - 게시글 행 잠금 → INSERT 시도, 중복 키(이미 좋아요)면 DELETE로 취소 → like_count ± 1
+     * - post_likes 전체를 다시 세지 않고 잠근 시점의 카운트로 새 값을 계산한다
+     */
+    @Transactional
     public Map<String, Object> like(Integer userId, Integer postId) {
-        User u = users.findById(userId).orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "token_not_valid"));
-        Post p = get(postId, false);
-        var existing = likes.findByUserIdAndPostId(u.getId(), p.getId());
+        if (!users.existsById(userId)) throw new ApiException(ErrorCode.UNAUTHORIZED, "token_not_valid");
+        Integer current = posts.findLikeCountForUpdate(postId);
+        if (current == null) throw new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found");
+        long cnt;
         boolean isLiked;
-        if (existing.isPresent()) {
-            likes.delete(existing.get());
-            isLiked = false;
-        } else {
-            likes.save(new PostLike(u, p));
+        if (likes.insertIfAbsent(userId, postId)) {
+            posts.increaseLikeCount(postId);
+            cnt = current + 1;
             isLiked = true;
+        } else {
+            likes.deleteIfPresent(userId, postId);
+            posts.decreaseLikeCount(postId);
+            cnt = Math.max(0, current - 1);
+            isLiked = false;
         }
-        long cnt = likes.countByPostId(p.getId());
-        p.setLikeCount((int)cnt); posts.save(p);
+        events.publishEvent(new PostEvents.LikeChanged(userId, postId, isLiked));
         return Map.of("like", cnt, "isLiked", isLiked);
     }
 
+    @Transactional
     public Map<String, Object> unlike(Integer userId, Integer postId) {
-        User u = users.findById(userId).orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "token_not_valid"));
-        Post p = get(postId, false);
-        likes.findByUserIdAndPostId(u.getId(), p.getId()).ifPresent(likes::delete);
-        long cnt = likes.countByPostId(p.getId());
-        p.setLikeCount((int)cnt); posts.save(p);
+        if (!users.existsById(userId)) throw new ApiException(ErrorCode.UNAUTHORIZED, "token_not_valid");
+        Integer current = posts.findLikeCountForUpdate(postId);
+        if (current == null) throw new ApiException(ErrorCode.RESOURCE_NOT_FOUND, "post_not_found");
+        long cnt = current;
+        if (likes.deleteIfPresent(userId, postId)) {
+            posts.decreaseLikeCount(postId);
+            cnt = Math.max(0, current - 1);
+            events.publishEvent(new PostEvents.LikeChanged(userId, postId, false));
+        }
         return Map.of("like", cnt, "isLiked", false);
     }
 
     public Page<Post> likedBy(Integer userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        return likes.findPostsLikedByUser(userId, pageable);
+        Page<Post> liked = likes.findPostsLikedByUser(userId, pageable);
+        images.hydrateImages(liked.getContent());
+        // 내가 좋아요한 목록이므로 전부 isLiked = true
+        liked.getContent().forEach(p -> p.setLiked(true));
+        return liked;
     }
 }
@@ -1,107 +1,308 @@
 package com.ktb.community.service;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 이미지 저장소 (S3)
+ * - 공유 S3Client/S3AsyncClient 사용 (요청마다 클라이언트를 만들지 않음)
+ * - uploadImageAsync: 파일을 part 단위로 읽으며 멀티파트 업로드를 병렬 전송 (CompletableFuture 체인, 호출 스레드를 막지 않음)
+ *   part 읽기는 전용 실행기(s3PartReadExecutor)에서 - SDK 완료 콜백 스레드에서는 블로킹 IO를 하지 않는다
+ */
 @Service
 public class S3Service {
-    
+    /** S3 멀티파트 업로드의 최소 part 크기 (마지막 part 제외) */
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final String bucketName;
     private final String region;
-    private final String accessKey;
-    private final String secretKey;
-    
-    public S3Service(@Value("${aws.s3.bucket-name}") String bucketName,
+    private final String endpoint;
+    private final int partSize;
+    private final int maxInFlightParts;
+    private final Executor partReader;
+
+    public S3Service(S3Client s3Client,
+                     S3AsyncClient s3AsyncClient,
+                     @Qualifier("s3PartReadExecutor") Executor partReader,
+                     @Value("${aws.s3.bucket-name}") String bucketName,
                      @Value("${aws.s3.region}") String region,
-                     @Value("${aws.s3.access-key}") String accessKey,
-                     @Value("${aws.s3.secret-key}") String secretKey) {
+                     @Value("${aws.s3.endpoint:}") String endpoint,
+                     @Value("${aws.s3.multipart.part-size:8388608}") int partSize,
+                     @Value("${aws.s3.multipart.max-in-flight:4}") int maxInFlightParts) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.partReader = partReader;
         this.bucketName = bucketName;
         this.region = region;
-        this.accessKey = accessKey;
-        this.secretKey = secretKey;
+        this.endpoint = endpoint;
+        this.partSize = (int) Math.max(partSize, MIN_PART_SIZE);
+        this.maxInFlightParts = maxInFlightParts;
     }
-    
+
     public String uploadImage(MultipartFile file) throws IOException {
+        return upload(file, "images/", "파일 업로드 중 오류 발생: ");
+    }
+
+    public String uploadProfileImage(MultipartFile file) throws IOException {
+        return upload(file, "profiles/", "프로필 이미지 업로드 중 오류 발생: ");
+    }
+
+    /**
+     * 게시글 이미지 비동기 업로드
+     * - part 크기 이하 파일은 단일 PUT
+     * - 그보다 크면 part 단위로 읽어 최대 maxInFlightParts개까지 동시에 전송 (메모리는 part 크기 × 동시 전송 수로 제한)
+     * - 실패 시 새 part를 보내지 않고, 전송 중인 part가 끝나면 멀티파트 업로드를 abort한 뒤 IOException으로 완료
+     */
+    public CompletableFuture<String> uploadImageAsync(MultipartFile file) {
+        String key = newKey("images/", file);
         try {
-            // 고유한 파일명 생성
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+            if (file.getSize() <= partSize) {
+                PutObjectRequest put = PutObjectRequest.builder()
+                        .bucket(bucketName).key(key)
+                        .contentType(file.getContentType())
+                        .contentLength(file.getSize())
+                        .build();
+                return s3AsyncClient.putObject(put, AsyncRequestBody.fromBytes(file.getBytes()))
+                        .handle((res, e) -> complete(key, e));
             }
-            String fileName = "images/" + UUID.randomUUID().toString() + extension;
-            
-            // AWS S3 클라이언트 생성
-            S3Client s3Client = S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(StaticCredentialsProvider.create(
-                            AwsBasicCredentials.create(accessKey, secretKey)))
-                    .build();
-            
-            // S3 업로드 요청 생성
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileName)
-                    .contentType(file.getContentType())
-                    .contentLength(file.getSize())
-                    .build();
-            
-            // 파일 업로드 실행
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
-            
-            // S3 URL 반환
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, fileName);
-            
-        } catch (Exception e) {
-            throw new IOException("파일 업로드 중 오류 발생: " + e.getMessage(), e);
+            return multipartUpload(file, key);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new IOException("파일 업로드 중 오류 발생: " + e.getMessage(), e));
         }
     }
-    
-    public String uploadProfileImage(MultipartFile file) throws IOException {
+
+    private CompletableFuture<String> multipartUpload(MultipartFile file, String key) {
+        InputStream in;
         try {
-            // 프로필 이미지용 고유한 파일명 생성
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+            in = file.getInputStream();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new IOException("파일 업로드 중 오류 발생: " + e.getMessage(), e));
+        }
+        return s3AsyncClient.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName).key(key).contentType(file.getContentType()).build())
+                .whenComplete((res, e) -> { if (e != null) closeQuietly(in); })
+                .thenCompose(res -> new MultipartUpload(key, res.uploadId(), in).start());
+    }
+
+    /**
+     * 멀티파트 업로드 한 건의 진행 상태
+     * - 호출 스레드와 SDK 콜백 스레드를 막지 않는다: part 읽기는 partReader에서, 잠금 밖에서 한다
+     * - 스트림은 순차적이므로 읽기는 한 번에 하나, 읽은 part는 바로 전송하고 다음 읽기를 예약
+     * - 동시에 읽는 중/전송 중인 part는 maxInFlightParts개까지 (메모리는 part 크기 × 동시 전송 수)
+     * - 첫 실패를 기록한 뒤로는 새 part를 시작하지 않고, 진행 중인 part가 모두 끝난 다음 abort
+     */
+    private final class MultipartUpload {
+        private final String key;
+        private final String uploadId;
+        private final InputStream in;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<CompletedPart> completed = new ArrayList<>();
+        private Throwable failure;
+        private int nextPartNumber = 1;
+        private int inFlight;
+        private boolean reading;
+        private boolean eof;
+        private boolean finished;
+
+        MultipartUpload(String key, String uploadId, InputStream in) {
+            this.key = key; this.uploadId = uploadId; this.in = in;
+        }
+
+        CompletableFuture<String> start() {
+            pump();
+            return result;
+        }
+
+        /** 여유가 있으면 다음 part 읽기를 예약하고, 더 할 일이 없으면 마무리 (IO와 S3 호출은 잠금 밖에서) */
+        private void pump() {
+            int number = 0;
+            boolean finish = false;
+            lock.lock();
+            try {
+                if (failure == null && !eof && !reading && inFlight < maxInFlightParts) {
+                    reading = true;
+                    inFlight++;
+                    number = nextPartNumber++;
+                } else if (!finished && inFlight == 0 && (failure != null || eof)) {
+                    finished = true;
+                    finish = true;
+                }
+            } finally {
+                lock.unlock();
             }
-            String fileName = "profiles/" + UUID.randomUUID().toString() + extension;
-            
-            // AWS S3 클라이언트 생성
-            S3Client s3Client = S3Client.builder()
-                    .region(Region.of(region))
-                    .credentialsProvider(StaticCredentialsProvider.create(
-                            AwsBasicCredentials.create(accessKey, secretKey)))
-                    .build();
-            
-            // S3 업로드 요청 생성
+            if (number > 0) {
+                int partNumber = number;
+                try {
+                    partReader.execute(() -> readAndSend(partNumber));
+                } catch (RejectedExecutionException e) {
+                    partFailed(e, true);
+                }
+            } else if (finish) {
+                finish();
+            }
+        }
+
+        /** partReader 스레드에서 실행 - part 하나를 읽어 전송을 시작한다 */
+        private void readAndSend(int number) {
+            byte[] chunk;
+            try {
+                chunk = in.readNBytes(partSize);
+            } catch (IOException e) {
+                partFailed(e, true);
+                return;
+            }
+            lock.lock();
+            try {
+                reading = false;
+                if (chunk.length < partSize) eof = true;
+                if (chunk.length == 0) inFlight--;
+            } finally {
+                lock.unlock();
+            }
+            if (chunk.length > 0) {
+                UploadPartRequest req = UploadPartRequest.builder()
+                        .bucket(bucketName).key(key).uploadId(uploadId)
+                        .partNumber(number).contentLength((long) chunk.length)
+                        .build();
+                try {
+                    s3AsyncClient.uploadPart(req, AsyncRequestBody.fromBytes(chunk))
+                            .whenComplete((res, e) -> onPartDone(number, res, e));
+                } catch (RuntimeException e) {
+                    partFailed(e, false);
+                    return;
+                }
+            }
+            pump();
+        }
+
+        private void onPartDone(int number, UploadPartResponse res, Throwable e) {
+            if (e != null) {
+                partFailed(e, false);
+                return;
+            }
+            lock.lock();
+            try {
+                inFlight--;
+                completed.add(CompletedPart.builder().partNumber(number).eTag(res.eTag()).build());
+            } finally {
+                lock.unlock();
+            }
+            pump();
+        }
+
+        /** part 하나가 끝내 실패 - 첫 실패만 기록 */
+        private void partFailed(Throwable e, boolean whileReading) {
+            lock.lock();
+            try {
+                inFlight--;
+                if (whileReading) reading = false;
+                if (failure == null) failure = e;
+            } finally {
+                lock.unlock();
+            }
+            pump();
+        }
+
+        /** pump에서 한 번만 호출 - 이후로는 상태가 바뀌지 않으므로 잠금 없이 읽는다 */
+        private void finish() {
+            closeQuietly(in);
+            if (failure != null) {
+                abort(key, uploadId);
+                result.completeExceptionally(uploadError(failure));
+                return;
+            }
+            completed.sort(Comparator.comparingInt(CompletedPart::partNumber));
+            s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                            .bucket(bucketName).key(key).uploadId(uploadId)
+                            .multipartUpload(CompletedMultipartUpload.builder().parts(List.copyOf(completed)).build())
+                            .build())
+                    .whenComplete((res, e) -> {
+                        if (e == null) {
+                            result.complete(urlOf(key));
+                        } else {
+                            abort(key, uploadId);
+                            result.completeExceptionally(uploadError(e));
+                        }
+                    });
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucketName).key(key).uploadId(uploadId).build());
+    }
+
+    private String complete(String key, Throwable e) {
+        if (e == null) return urlOf(key);
+        throw new CompletionException(uploadError(e));
+    }
+
+    private static IOException uploadError(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return new IOException("파일 업로드 중 오류 발생: " + cause.getMessage(), cause);
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 읽기는 이미 끝났다
+        }
+    }
+
+    private String upload(MultipartFile file, String prefix, String errorMessage) throws IOException {
+        try {
+            String key = newKey(prefix, file);
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucketName)
-                    .key(fileName)
+                    .key(key)
                     .contentType(file.getContentType())
                     .contentLength(file.getSize())
                     .build();
-            
-            // 파일 업로드 실행
+
             s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
                     file.getInputStream(), file.getSize()));
-            
-            // S3 URL 반환
-            return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, fileName);
-            
+
+            return urlOf(key);
         } catch (Exception e) {
-            throw new IOException("프로필 이미지 업로드 중 오류 발생: " + e.getMessage(), e);
+            throw new IOException(errorMessage + e.getMessage(), e);
+        }
+    }
+
+    /** 고유한 파일명 생성 (원본 확장자 유지) */
+    private static String newKey(String prefix, MultipartFile file) {
+        String originalFilename = file.getOriginalFilename();
+        String extension = "";
+        if (originalFilename != null && originalFilename.contains(".")) {
+            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
         }
+        return prefix + UUID.randomUUID() + extension;
+    }
+
+    private String urlOf(String key) {
+        if (!endpoint.isBlank()) return endpoint.replaceAll("/+$", "") + "/" + bucketName + "/" + key;
+        return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
     }
 }
@@ -0,0 +1,123 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 write-behind 버퍼
+ * - 상세 조회마다 UPDATE 하지 않고 게시글별 LongAdder에 누적한 뒤
+ *   주기적으로 view_count = view_count + ? 배치 UPDATE로 반영한다
+ * - 종료 시에도 남은 조회수를 반영한다
+ */
+@Component
+public class ViewCountBuffer {
+    private static final Logger log = LoggerFactory.getLogger(ViewCountBuffer.class);
+
+    private final PostRepository posts;
+    private final Timer flushTimer;
+
+    // 스케줄러와 종료 시 flush가 겹치지 않게 한다
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 교체하지 않는 단일 맵 - 증가 경로는 잠금 없이 LongAdder만 건드리고, flush는 sumThenReset으로 비운다
+    private final ConcurrentHashMap<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    // DB 반영 중인 조회수 - 커밋(또는 실패 후 되돌림)까지 pending()에 포함한다
+    private volatile Map<Integer, Long> flushing = Map.of();
+
+    public ViewCountBuffer(PostRepository posts, MeterRegistry registry) {
+        this.posts = posts;
+        this.flushTimer = Timer.builder("posts.view_count.flush")
+                .description("조회수 버퍼 DB 반영 시간")
+                .register(registry);
+        Gauge.builder("posts.view_count.buffer.size", this, b -> b.pending.size())
+                .description("버퍼에 있는 게시글 수 (한 주기 동안 조회가 없으면 빠진다)")
+                .register(registry);
+    }
+
+    public void increment(Integer postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) adder = pending.computeIfAbsent(postId, k -> new LongAdder());
+        adder.increment();
+        // flush가 유휴 항목으로 보고 그사이 맵에서 뺐다면, 빠진 adder에 더한 값을 맵의 adder로 옮긴다
+        if (pending.get(postId) != adder) rehome(postId, adder);
+    }
+
+    /** 아직 DB에 반영되지 않은 조회수 (반영 중인 것 포함, flush와 겹치면 잠깐 어긋날 수 있는 근사치) */
+    public long pending(Integer postId) {
+        LongAdder adder = pending.get(postId);
+        return (adder == null ? 0 : adder.sum()) + flushing.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${posts.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Integer, Long> deltas = drain();
+            if (deltas.isEmpty()) return;
+
+            boolean committed = false;
+            try {
+                flushTimer.record(() -> posts.addViewCounts(deltas));
+                committed = true;
+            } catch (RuntimeException e) {
+                // 배치는 한 트랜잭션이라 실패하면 아무것도 반영되지 않았다 - 다음 주기에 다시 반영하도록 되돌린다
+                log.warn("view count flush failed ({} posts), will retry", deltas.size(), e);
+            } finally {
+                settle(deltas, committed);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 게시글별 누적값을 sumThenReset으로 떼어 flushing으로 옮긴다 (post_id 순 - 다른 트랜잭션과의 락 순서를 일정하게 유지)
+     * - 한 주기 동안 증가가 없던 항목은 맵에서 빼 버퍼가 조회된 적 있는 모든 게시글로 자라지 않게 한다
+     */
+    private Map<Integer, Long> drain() {
+        Map<Integer, Long> deltas = new TreeMap<>();
+        pending.forEach((postId, adder) -> {
+            long v = adder.sumThenReset();
+            if (v > 0) {
+                deltas.put(postId, v);
+            } else if (pending.remove(postId, adder)) {
+                // 빼는 사이 들어온 증가분은 되살린다 (이후 증가는 increment가 옮긴다)
+                long late = adder.sumThenReset();
+                if (late > 0) deltas.merge(postId, late, Long::sum);
+            }
+        });
+        flushing = deltas;
+        return deltas;
+    }
+
+    /** 맵에서 빠진 adder의 값을 현재 맵의 adder로 옮긴다 (sumThenReset은 셀마다 원자적이라 flush와 겹쳐도 중복/유실 없음) */
+    private void rehome(Integer postId, LongAdder orphan) {
+        long v = orphan.sumThenReset();
+        if (v > 0) pending.computeIfAbsent(postId, k -> new LongAdder()).add(v);
+    }
+
+    /** 반영 결과 정리 - 실패했으면 버퍼로 되돌린 뒤 flushing을 비운다 */
+    private void settle(Map<Integer, Long> deltas, boolean committed) {
+        if (!committed) {
+            deltas.forEach((postId, v) -> pending.computeIfAbsent(postId, k -> new LongAdder()).add(v));
+        }
+        flushing = Map.of();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
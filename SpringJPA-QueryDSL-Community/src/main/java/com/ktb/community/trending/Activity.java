@@ -0,0 +1,3 @@
+package com.ktb.community.trending;
+
+enum Activity { LIKE, COMMENT, VIEW }
@@ -0,0 +1,70 @@
+package com.ktb.community.trending;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 하나의 최근 활동 (시간 버킷 ring buffer)
+ * - 버킷 번호 = epoch minute / 버킷 분 수, 인덱스 = 버킷 번호 % 크기
+ * - 다른 버킷의 값이 남아 있으면 덮어쓰기 전에 비운다
+ */
+final class ActivityWindow {
+    private final long[] buckets;
+    private final int[] likes;
+    private final int[] comments;
+    private final int[] views;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile long lastBucket;
+    // 기록할 때마다 증가 - 점수 계산 후 정리할 때 그사이 기록이 있었는지 확인용
+    private volatile long version;
+
+    ActivityWindow(int size) {
+        this.buckets = new long[size];
+        this.likes = new int[size];
+        this.comments = new int[size];
+        this.views = new int[size];
+        java.util.Arrays.fill(buckets, -1);
+    }
+
+    void record(Activity kind, int delta, long bucket) {
+        int idx = (int) (bucket % buckets.length);
+        lock.lock();
+        try {
+            if (buckets[idx] != bucket) {
+                buckets[idx] = bucket;
+                likes[idx] = 0; comments[idx] = 0; views[idx] = 0;
+            }
+            switch (kind) {
+                case LIKE -> likes[idx] += delta;
+                case COMMENT -> comments[idx] += delta;
+                case VIEW -> views[idx] += delta;
+            }
+            if (bucket > lastBucket) lastBucket = bucket;
+            version++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 버킷별 가중합에 경과 버킷 수만큼 감쇠를 곱해 더한다 (decay[age] = 0.5^(age * 버킷 분 수 / 반감기))
+     */
+    double score(long nowBucket, double[] decay, double likeWeight, double commentWeight, double viewWeight) {
+        double score = 0;
+        lock.lock();
+        try {
+            for (int i = 0; i < buckets.length; i++) {
+                long age = nowBucket - buckets[i];
+                if (buckets[i] < 0 || age < 0 || age >= decay.length) continue;
+                double raw = likes[i] * likeWeight + comments[i] * commentWeight + views[i] * viewWeight;
+                score += raw * decay[(int) age];
+            }
+        } finally {
+            lock.unlock();
+        }
+        return Math.max(0, score);
+    }
+
+    long lastBucket() { return lastBucket; }
+
+    long version() { return version; }
+}
@@ -0,0 +1,192 @@
+package com.ktb.community.trending;
+
+import com.ktb.community.event.CommentEvents;
+import com.ktb.community.event.PostEvents;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 인기글 리더보드 (애플리케이션 메모리)
+ * - 게시글별 최근 N분 좋아요/댓글/조회 수를 분 단위 버킷(trending.bucket-minutes, 기본 1분)에 누적 (커밋된 이벤트만)
+ * - 주기적으로 지수 감쇠 점수를 계산해 크기 K의 최소 힙으로 상위 K개를 골라 스냅샷 교체 (O(N log K))
+ * - 추적하는 게시글 수는 max-posts를 넘지 않는다 (refresh 때 점수 하위부터 정리)
+ *   게시글당 메모리는 버킷 수에 비례 (180분/1분 버킷 ≈ 3.6KB) - 줄이려면 bucket-minutes를 키운다
+ * - 조회(top)는 스냅샷만 읽으므로 DB에 접근하지 않는다
+ */
+@Component
+public class TrendingBoard {
+    public record Entry(Integer postId, double score) { }
+
+    private final int bucketMinutes;
+    private final int bucketCount;
+    private final int topK;
+    private final int maxPosts;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final double[] decay;
+    private final Clock clock;
+
+    private final Map<Integer, ActivityWindow> windows = new ConcurrentHashMap<>();
+    private volatile List<Entry> snapshot = List.of();
+
+    @Autowired
+    public TrendingBoard(@Value("${trending.window-minutes:180}") int windowMinutes,
+                         @Value("${trending.bucket-minutes:1}") int bucketMinutes,
+                         @Value("${trending.half-life-minutes:60}") double halfLifeMinutes,
+                         @Value("${trending.top-k:100}") int topK,
+                         @Value("${trending.max-posts:10000}") int maxPosts,
+                         @Value("${trending.weight.like:3}") double likeWeight,
+                         @Value("${trending.weight.comment:5}") double commentWeight,
+                         @Value("${trending.weight.view:1}") double viewWeight) {
+        this(windowMinutes, bucketMinutes, halfLifeMinutes, topK, maxPosts, likeWeight, commentWeight, viewWeight,
+                Clock.systemUTC());
+    }
+
+    /** 테스트에서 시각을 고정/이동할 수 있도록 Clock을 받는다 */
+    TrendingBoard(int windowMinutes, int bucketMinutes, double halfLifeMinutes, int topK, int maxPosts,
+                  double likeWeight, double commentWeight, double viewWeight, Clock clock) {
+        this.bucketMinutes = Math.max(1, bucketMinutes);
+        this.bucketCount = Math.max(1, (windowMinutes + this.bucketMinutes - 1) / this.bucketMinutes);
+        this.topK = topK;
+        this.maxPosts = Math.max(topK, maxPosts);
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.clock = clock;
+        this.decay = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            decay[age] = Math.pow(0.5, age * (double) this.bucketMinutes / halfLifeMinutes);
+        }
+    }
+
+    /**
+     * 현재 순위 상위 limit개 (마지막 refresh 기준)
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> current = snapshot;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = currentBucket();
+        // 최소 힙 - head가 상위 K개 중 가장 낮은 순위, 더 높은 점수가 오면 head를 밀어낸다
+        PriorityQueue<Scored> top = new PriorityQueue<>(topK + 1, BY_RANK.reversed());
+        // 추적 수가 가득 찼을 때만 정리 대상 선정을 위해 전체를 모은다
+        List<Scored> live = windows.size() >= maxPosts ? new ArrayList<>(windows.size()) : null;
+        for (Map.Entry<Integer, ActivityWindow> e : windows.entrySet()) {
+            ActivityWindow w = e.getValue();
+            // 창 밖으로 밀려난 게시글은 정리 - 판단과 삭제를 한 번에 해 그사이 기록이 버려지지 않게 한다
+            if (now - w.lastBucket() >= bucketCount) {
+                windows.computeIfPresent(e.getKey(), (k, cur) -> now - cur.lastBucket() >= bucketCount ? null : cur);
+                continue;
+            }
+            long version = w.version();
+            Scored s = new Scored(e.getKey(), w, version, w.score(now, decay, likeWeight, commentWeight, viewWeight));
+            if (live != null) live.add(s);
+            if (s.score() <= 0 || topK <= 0) continue;
+            if (top.size() < topK) {
+                top.add(s);
+            } else if (BY_RANK.compare(s, top.peek()) < 0) {
+                top.poll();
+                top.add(s);
+            }
+        }
+
+        // 추적 수가 넘치면 점수 하위부터 정리해 새 게시글이 들어올 자리(max-posts의 1/4)를 남긴다
+        if (live != null && live.size() >= maxPosts) {
+            int retain = Math.max(topK, maxPosts - maxPosts / 4);
+            for (Scored s : lowest(live, live.size() - retain)) {
+                windows.computeIfPresent(s.postId(), (k, cur) -> cur == s.window() && cur.version() == s.version() ? null : cur);
+            }
+        }
+
+        Entry[] ranked = new Entry[top.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            Scored s = top.poll();
+            ranked[i] = new Entry(s.postId(), s.score());
+        }
+        snapshot = List.of(ranked);
+    }
+
+    /** 순위가 가장 낮은 n개 - 크기 n의 최대 힙(head = 그중 가장 높은 순위)으로 고른다 */
+    private static List<Scored> lowest(List<Scored> scored, int n) {
+        if (n <= 0) return List.of();
+        PriorityQueue<Scored> bottom = new PriorityQueue<>(n + 1, BY_RANK);
+        for (Scored s : scored) {
+            if (bottom.size() < n) {
+                bottom.add(s);
+            } else if (BY_RANK.compare(s, bottom.peek()) > 0) {
+                bottom.poll();
+                bottom.add(s);
+            }
+        }
+        return new ArrayList<>(bottom);
+    }
+
+    private record Scored(Integer postId, ActivityWindow window, long version, double score) { }
+
+    // 순위 순서 - 점수 내림차순, 동점이면 최근(큰 id) 게시글 먼저
+    private static final Comparator<Scored> BY_RANK =
+            Comparator.comparingDouble(Scored::score).reversed().thenComparing(Scored::postId, Comparator.reverseOrder());
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(PostEvents.LikeChanged e) {
+        record(e.postId(), Activity.LIKE, e.liked() ? 1 : -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewed(PostEvents.Viewed e) {
+        record(e.postId(), Activity.VIEW, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentCreated(CommentEvents.Created e) {
+        record(e.postId(), Activity.COMMENT, 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentDeleted(CommentEvents.Deleted e) {
+        record(e.postId(), Activity.COMMENT, -1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostDeleted(PostEvents.Deleted e) {
+        windows.remove(e.postId());
+        List<Entry> current = snapshot;
+        if (current.stream().anyMatch(x -> x.postId().equals(e.postId()))) {
+            snapshot = current.stream().filter(x -> !x.postId().equals(e.postId())).toList();
+        }
+    }
+
+    /** 추적 중인 게시글 수 */
+    int trackedPosts() { return windows.size(); }
+
+    private void record(Integer postId, Activity kind, int delta) {
+        if (postId == null) return;
+        long bucket = currentBucket();
+        // 조회/생성과 기록을 한 번에 - refresh의 정리와 겹쳐도 정리된 창에 기록하지 않는다
+        windows.compute(postId, (k, w) -> {
+            if (w == null) {
+                // 취소(-1)로 새 창을 만들지 않고, 추적 수가 가득 차면 다음 refresh 정리 전까지 새 게시글은 받지 않는다
+                if (delta <= 0 || windows.size() >= maxPosts) return null;
+                w = new ActivityWindow(bucketCount);
+            }
+            w.record(kind, delta, bucket);
+            return w;
+        });
+    }
+
+    private long currentBucket() {
+        return TimeUnit.MILLISECONDS.toMinutes(clock.millis()) / bucketMinutes;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ktb.community.util;
+
+import com.ktb.community.exception.ApiException;
+import com.ktb.community.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 불투명(opaque) 커서 인코딩/디코딩
+ * - 클라이언트는 값을 해석하지 않고 그대로 되돌려 보낸다
+ */
+public final class CursorCodec {
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() { }
+
+    public static String encode(String... parts) {
+        String raw = String.join(SEPARATOR, parts);
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 구성 요소로 분리한다. 형식이 맞지 않으면 400(invalid_cursor)
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedParts) throw new IllegalArgumentException("cursor parts");
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.VALIDATION_ERROR, "invalid_cursor");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.ktb.community.util;
+
+import com.ktb.community.domain.IdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 테이블별 PK 구간 예약 (id_generators 테이블, 테이블마다 한 행 - 스키마는 IdGenerator 엔티티,
+ *   ddl-auto를 쓰지 않는 DB는 배포 전에 db/migration/V3__id_generators.sql로 만든다)
+ * - block-size개씩 미리 예약해 메모리에서 나눠 주므로 DB 접근은 구간당 1회
+ * - 예약은 본 DataSource에서 별도 커넥션을 받아 짧은 트랜잭션으로 처리
+ *   (가상 스레드 모드에서 요청 트랜잭션 안에서 호출되면 ConnectionLimitConfig의 nested 허가를 쓰므로 풀이 바닥나도 교착되지 않는다)
+ * - 프로세스에서 테이블을 처음 예약할 때 MAX(id) 이후로 시작 값을 맞춘다
+ *   (AUTO_INCREMENT로 쌓인 기존 행, 생성기 행이 없는 DB도 그대로 동작)
+ * - 재시작하면 쓰지 않은 구간은 버려지므로 id에 빈 번호가 생길 수 있다
+ * - BlockIdGenerator가 이 빈을 찾을 수 있도록 Hibernate 설정(SETTING)에 자신을 등록한다
+ */
+@Component
+public class IdBlockAllocator implements HibernatePropertiesCustomizer {
+    private static final Logger log = LoggerFactory.getLogger(IdBlockAllocator.class);
+    public static final String SETTING = "community.id-block-allocator";
+    private static final String TABLE = IdGenerator.TABLE;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final DataSource dataSource;
+    private final int blockSize;
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private static final class Block {
+        final ReentrantLock lock = new ReentrantLock();
+        long next;
+        long limit;
+        boolean seeded;
+    }
+
+    public IdBlockAllocator(DataSource dataSource, @Value("${ids.block-size:50}") int blockSize) {
+        this.dataSource = dataSource;
+        this.blockSize = Math.max(blockSize, 1);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(SETTING, this);
+    }
+
+    /** 다음 id (테이블별 단조 증가) */
+    public long next(String table, String idColumn) {
+        Block b = blocks.computeIfAbsent(table, k -> new Block());
+        b.lock.lock();
+        try {
+            if (b.next >= b.limit) {
+                b.next = reserve(table, idColumn, blockSize, !b.seeded);
+                b.limit = b.next + blockSize;
+                b.seeded = true;
+            }
+            return b.next++;
+        } finally {
+            b.lock.unlock();
+        }
+    }
+
+    /**
+     * 연속 구간 count개를 한 번에 예약하고 시작 값 반환 (대량 적재용 - 이 구간의 id는 호출 측이 직접 쓴다)
+     * - next()가 나눠 주던 블록은 남은 id를 계속 쓴다. 새 구간은 id_generators 행에서 잘라 오므로 그 블록과 겹치지 않고,
+     *   다음 블록 예약은 이 구간 뒤에서 시작한다
+     */
+    public long reserveRange(String table, String idColumn, long count) {
+        if (count <= 0) throw new IllegalArgumentException("count must be positive");
+        Block b = blocks.computeIfAbsent(table, k -> new Block());
+        b.lock.lock();
+        try {
+            long start = reserve(table, idColumn, count, true);
+            b.seeded = true;
+            return start;
+        } finally {
+            b.lock.unlock();
+        }
+    }
+
+    /** 구간 하나를 예약하고 시작 값 반환 */
+    private long reserve(String table, String idColumn, long size, boolean checkMaxId) {
+        for (int attempt = 1; ; attempt++) {
+            try (Connection c = dataSource.getConnection()) {
+                boolean autoCommit = c.getAutoCommit();
+                c.setAutoCommit(false);
+                try {
+                    long start = reserve(c, table, idColumn, size, checkMaxId);
+                    c.commit();
+                    return start;
+                } catch (SQLException e) {
+                    c.rollback();
+                    throw e;
+                } finally {
+                    c.setAutoCommit(autoCommit);
+                }
+            } catch (SQLException e) {
+                // 다른 인스턴스와 동시에 첫 행을 넣으려 한 경우 등은 재시도
+                if (attempt >= MAX_ATTEMPTS) throw new IllegalStateException("id block reservation failed: " + table, e);
+                log.warn("id block reservation retry {} for {}: {}", attempt, table, e.getMessage());
+            }
+        }
+    }
+
+    private long reserve(Connection c, String table, String idColumn, long size, boolean checkMaxId) throws SQLException {
+        Long current = null;
+        try (PreparedStatement ps = c.prepareStatement("SELECT next_val FROM " + TABLE + " WHERE gen_name = ? FOR UPDATE")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) current = rs.getLong(1);
+            }
+        }
+        long start = current == null ? 1 : current;
+        if (checkMaxId || current == null) start = Math.max(start, maxId(c, table, idColumn) + 1);
+        String sql = current == null
+                ? "INSERT INTO " + TABLE + " (next_val, gen_name) VALUES (?, ?)"
+                : "UPDATE " + TABLE + " SET next_val = ? WHERE gen_name = ?";
+        try (PreparedStatement ps = c.prepareStatement(sql)) {
+            ps.setLong(1, start + size);
+            ps.setString(2, table);
+            ps.executeUpdate();
+        }
+        return start;
+    }
+
+    private static long maxId(Connection c, String table, String idColumn) throws SQLException {
+        try (Statement st = c.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -6,24 +6,52 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:ktb-community-secret-key-for-jwt-token-generation-and-validation}")
-    private String secret;
+    private final long accessTokenExpiration;
+    private final long refreshTokenExpiration;
 
-    @Value("${jwt.access-token-expiration:900000}") // 15분 (밀리초)
-    private long accessTokenExpiration;
+    // 서명 키와 파서는 한 번만 만들어 재사용 (둘 다 thread-safe)
+    private final SecretKey signingKey;
+    private final JwtParser parser;
 
-    @Value("${jwt.refresh-token-expiration:604800000}") // 7일 (밀리초)
-    private long refreshTokenExpiration;
+    public JwtUtil(@Value("${jwt.secret:ktb-community-secret-key-for-jwt-token-generation-and-validation}") String secret,
+                   @Value("${jwt.access-token-expiration:900000}") long accessTokenExpiration, // 15분 (밀리초)
+                   @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration) { // 7일 (밀리초)
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하고 필요한 클레임을 돌려준다
+     * - 서명 불일치, 형식 오류, 만료된 토큰이면 empty
+     * - exp가 없는 토큰도 empty (이 서버가 발급한 토큰에는 항상 있다)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            if (expiration == null) return Optional.empty();
+            return Optional.of(new VerifiedToken(
+                    claims.get("userId", Integer.class),
+                    claims.get("type", String.class),
+                    expiration.toInstant()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -102,11 +130,7 @@ public class JwtUtil {
      * 토큰에서 Claims 추출
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -114,10 +138,7 @@ public class JwtUtil {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -0,0 +1,46 @@
+package com.ktb.community.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합친다 (single-flight)
+ * - 먼저 온 호출만 loader를 실행하고, 진행 중에 도착한 호출은 그 결과(또는 예외)를 함께 받는다
+ * - 결과를 보관하지 않으므로 캐시가 아니다 (완료 즉시 키 제거)
+ * - 대기는 CompletableFuture.join (모니터 잠금 없음)
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V load(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) return await(running);
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 진행 중인 키 수 (모니터링/테스트용) */
+    public int inFlightCount() { return inFlight.size(); }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // loader가 던진 예외(ApiException 등)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
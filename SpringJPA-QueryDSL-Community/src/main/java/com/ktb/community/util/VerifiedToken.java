@@ -0,0 +1,11 @@
+package com.ktb.community.util;
+
+import java.time.Instant;
+
+/**
+ * 서명/만료 검증을 통과한 토큰의 클레임 (불변)
+ */
+public record VerifiedToken(Integer userId, String type, Instant expiresAt) {
+    public boolean isAccessToken() { return "access".equals(type); }
+    public boolean isRefreshToken() { return "refresh".equals(type); }
+}
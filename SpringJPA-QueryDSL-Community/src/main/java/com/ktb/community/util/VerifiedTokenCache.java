@@ -0,0 +1,122 @@
+package com.ktb.community.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 검증을 통과한 토큰 캐시
+ * - 같은 Access Token이 만료 전까지 매 요청 반복되므로 서명 검증 결과를 재사용한다
+ * - 키는 토큰 원문이 아닌 SHA-256 해시, 항목은 토큰의 exp를 넘겨 남지 않는다
+ * - 검증 실패한 토큰은 캐시하지 않는다
+ */
+@Component
+public class VerifiedTokenCache {
+    // 복제 원본 - 직접 update하지 않으므로 여러 스레드가 동시에 clone해도 안전
+    private static final MessageDigest SHA_256 = sha256();
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil, MeterRegistry registry,
+                              @Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.max-size:10000}") long maxSize) {
+        this(jwtUtil, registry, enabled, maxSize, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    /**
+     * 테스트에서 시각을 고정/이동할 수 있도록 Clock과 Ticker를 받는다
+     * - Clock: 토큰 exp까지 남은 시간 계산과 exp 재확인 (벽시계)
+     * - Ticker: 캐시 내부 경과 시간 (단조 시계 - 벽시계가 조정돼도 만료가 앞당겨지거나 밀리지 않는다)
+     */
+    VerifiedTokenCache(JwtUtil jwtUtil, MeterRegistry registry, boolean enabled, long maxSize, Clock clock, Ticker ticker) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(ticker)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return nanosUntil(token.expiresAt());
+                    }
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return nanosUntil(token.expiresAt());
+                    }
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        if (enabled) CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * 캐시를 먼저 확인하고, 없으면 JwtUtil로 검증 후 저장
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (!enabled) return jwtUtil.verify(token);
+        String key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(clock.instant())) return Optional.of(cached);
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        Optional<VerifiedToken> verified = jwtUtil.verify(token);
+        verified.ifPresent(t -> cache.put(key, t));
+        return verified;
+    }
+
+    private long nanosUntil(Instant expiresAt) {
+        long millis = expiresAt.toEpochMilli() - clock.millis();
+        return Math.max(0, millis) * 1_000_000L;
+    }
+
+    /** 현재 캐시된 항목 수 (대기 중인 만료/축출을 먼저 처리) */
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    /** 헤더 값 그대로(UTF-8)의 SHA-256 - 매 요청 getInstance 대신 미리 만든 다이제스트를 복제해 쓴다 */
+    private static String hash(String token) {
+        try {
+            MessageDigest md = (MessageDigest) SHA_256.clone();
+            return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.clone(); // 복제를 지원하지 않는 provider면 기동 시 바로 실패
+            return md;
+        } catch (NoSuchAlgorithmException | CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
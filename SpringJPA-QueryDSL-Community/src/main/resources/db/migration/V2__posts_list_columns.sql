@@ -0,0 +1,19 @@
+-- posts 목록용 비정규화 컬럼과 정렬 인덱스 (MySQL 8)
+-- - Post 엔티티의 excerpt, image_count, thumbnail_url 컬럼과 idx_posts_pub/idx_posts_like/idx_posts_view 인덱스
+-- - ddl-auto=validate/none으로 운영하는 DB는 새 버전 배포 전에 한 번 실행한다
+--   (컬럼이 없으면 validate에서 기동 실패, none이면 조회가 실패하고 인덱스 없이 전체 스캔)
+-- - 적용 순서: 1) 이 스크립트  2) 새 버전 배포  3) posts.backfill.enabled=true로 한 번 기동 (PostColumnBackfill)
+-- - V1은 기존 스키마 (파일 이름은 Flyway 규칙, 도입 시 baseline-version=1)
+
+-- 맨 뒤에 추가하므로 8.0.12+에서는 INSTANT로 처리되어 테이블을 다시 쓰지 않는다
+-- image_count는 기본값 0으로 채워지고, 실제 값은 백필이 post_images에서 다시 계산한다
+ALTER TABLE posts
+    ADD COLUMN excerpt varchar(100) NULL,
+    ADD COLUMN image_count int unsigned NOT NULL DEFAULT 0,
+    ADD COLUMN thumbnail_url varchar(512) NULL;
+
+-- 온라인 인덱스 생성 (쓰기를 막지 않는다)
+-- - image_count를 뒤에 두어 hasImage 필터도 정렬 순서대로 인덱스만 읽으며 거른다
+CREATE INDEX idx_posts_pub ON posts (published_at, post_id, image_count) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX idx_posts_like ON posts (like_count, post_id, image_count) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX idx_posts_view ON posts (view_count, post_id) ALGORITHM=INPLACE LOCK=NONE;
@@ -0,0 +1,11 @@
+-- PK 구간 예약 테이블 (MySQL 8) - IdBlockAllocator / IdGenerator 엔티티
+-- - ddl-auto=validate/none으로 운영하는 DB는 새 버전(@BlockId) 배포 전에 한 번 실행한다
+--   (테이블이 없으면 validate에서 기동 실패, none이면 첫 INSERT의 id 예약이 실패)
+-- - 행은 넣지 않는다: 테이블별 행은 처음 예약할 때 MAX(id) 이후 값으로 만들어진다
+-- - 기존 테이블의 AUTO_INCREMENT 속성은 그대로 둔다 (id를 직접 넣으므로 쓰이지 않는다)
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    gen_name varchar(64) NOT NULL,
+    next_val bigint      NOT NULL,
+    PRIMARY KEY (gen_name)
+) ENGINE=InnoDB;
@@ -0,0 +1,93 @@
+package com.ktb.community.config;
+
+import com.ktb.community.config.ConnectionLimitConfig.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConnectionLimitingDataSourceTest {
+
+    @DisplayName("허가 수만큼만 커넥션을 내주고, 대기 시간이 지나면 실패, close 시 반납(중복 close는 한 번만)")
+    @Test
+    void limitsConcurrentConnections() throws Exception {
+        DriverManagerDataSource target = new DriverManagerDataSource("jdbc:h2:mem:limit;DB_CLOSE_DELAY=-1", "sa", "");
+        ConnectionLimitingDataSource ds = new ConnectionLimitingDataSource(target, 2, 50);
+
+        Connection first = ds.getConnection();
+        Connection second = ds.getConnection();
+        assertThat(ds.availablePermits()).isZero();
+        assertThatThrownBy(ds::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(ds.availablePermits()).isEqualTo(1);
+        try (Connection third = ds.getConnection()) {
+            assertThat(third.isValid(1)).isTrue();
+        }
+        second.close();
+        assertThat(ds.availablePermits()).isEqualTo(2);
+    }
+
+    @DisplayName("커넥션을 쥔 스레드의 두 번째 요청은 nested 허가를 쓴다 - 일반 허가가 바닥나도 받을 수 있다")
+    @Test
+    void nestedAcquireUsesHeadroom() throws Exception {
+        // given
+        DriverManagerDataSource target = new DriverManagerDataSource("jdbc:h2:mem:nested;DB_CLOSE_DELAY=-1", "sa", "");
+        ConnectionLimitingDataSource ds = new ConnectionLimitingDataSource(target, 1, 1, 50);
+
+        // when
+        Connection outer = ds.getConnection();
+        Connection inner = ds.getConnection();
+
+        // then
+        assertThat(ds.availablePermits()).isZero();
+        assertThat(ds.availableNestedPermits()).isZero();
+        inner.close();
+        assertThat(ds.availableNestedPermits()).isEqualTo(1);
+        outer.close();
+        assertThat(ds.availablePermits()).isEqualTo(1);
+        try (Connection next = ds.getConnection()) {
+            assertThat(ds.availablePermits()).isZero();
+            assertThat(ds.availableNestedPermits()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("가상 스레드 모드에서만 Hikari DataSource를 감싼다 - 플랫폼 스레드 모드는 세마포어/래퍼 없이 그대로")
+    @Test
+    void postProcessor_onlyWithVirtualThreads() {
+        ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(ConnectionLimitConfig.class);
+
+        runner.run(ctx -> assertThat(ctx).doesNotHaveBean("connectionLimitPostProcessor"));
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(ctx -> assertThat(ctx).hasBean("connectionLimitPostProcessor"));
+    }
+
+    @DisplayName("래퍼 커넥션은 드라이버 커넥션으로 unwrap되고, 호출은 그대로 위임된다")
+    @Test
+    void wrappedConnection_delegates() throws Exception {
+        // given
+        DriverManagerDataSource target = new DriverManagerDataSource("jdbc:h2:mem:delegate;DB_CLOSE_DELAY=-1", "sa", "");
+        ConnectionLimitingDataSource ds = new ConnectionLimitingDataSource(target, 1, 50);
+        Class<? extends Connection> driverType;
+        try (Connection raw = target.getConnection()) { driverType = raw.getClass(); }
+
+        // when, then
+        try (Connection c = ds.getConnection()) {
+            assertThat(c).isInstanceOf(PermitReleasingConnection.class);
+            assertThat(c.isWrapperFor(driverType)).isTrue();
+            assertThat(c.unwrap(driverType)).isInstanceOf(driverType);
+            c.setAutoCommit(false);
+            try (var rs = c.createStatement().executeQuery("SELECT 1")) {
+                assertThat(rs.next()).isTrue();
+            }
+            c.rollback();
+        }
+        assertThat(ds.availablePermits()).isEqualTo(1);
+    }
+}
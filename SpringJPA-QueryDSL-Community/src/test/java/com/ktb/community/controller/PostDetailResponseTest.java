@@ -0,0 +1,89 @@
+package com.ktb.community.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ktb.community.dto.PostDtos.AuthorSummary;
+import com.ktb.community.dto.PostDtos.ImageSummary;
+import com.ktb.community.dto.PostDtos.PostDetail;
+import com.ktb.community.service.PostService;
+import com.ktb.community.service.S3Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /posts/{postId} 응답 JSON 모양 고정 (PostDetail) - 필드가 바뀌면 API 계약 변경이므로 이 테스트를 함께 고친다
+ * - ObjectMapper는 Spring Boot 기본 구성과 같게 (날짜는 ISO 문자열)
+ */
+class PostDetailResponseTest {
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    @DisplayName("상세 응답 필드 - 작성자는 id/nickname/profileImageUrl만 (이메일 없음), 이미지는 id/imageUrl/sortOrder")
+    @Test
+    void detail_responseShape() throws Exception {
+        // given
+        PostService postService = mock(PostService.class);
+        LocalDateTime at = LocalDateTime.of(2026, 10, 18, 9, 0);
+        when(postService.detail(null, 7, false)).thenReturn(new PostDetail(7, "제목", "본문",
+                new AuthorSummary(3, "작성자", "https://img/profile.png"),
+                List.of(new ImageSummary(11, "https://img/1.png", 1), new ImageSummary(12, "https://img/2.png", 2)),
+                at, at.plusMinutes(5), 10, 2, 1, false));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new PostController(postService, mock(S3Service.class)))
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(mapper))
+                .build();
+
+        // when
+        String body = mvc.perform(get("/posts/{postId}", 7).param("increaseView", "false"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // then
+        JsonNode root = mapper.readTree(body);
+        assertThat(fieldNames(root)).containsExactlyInAnyOrder("message", "data");
+        assertThat(root.get("message").asText()).isEqualTo("get_post_detail_success");
+
+        JsonNode data = root.get("data");
+        assertThat(fieldNames(data)).containsExactlyInAnyOrder(
+                "id", "title", "content", "author", "images", "publishedAt", "updatedAt",
+                "viewCount", "likeCount", "commentCount", "isLiked");
+        assertThat(data.get("id").asInt()).isEqualTo(7);
+        assertThat(data.get("title").asText()).isEqualTo("제목");
+        assertThat(data.get("publishedAt").asText()).isEqualTo("2026-10-18T09:00:00");
+        assertThat(data.get("updatedAt").asText()).isEqualTo("2026-10-18T09:05:00");
+        assertThat(data.get("viewCount").asInt()).isEqualTo(10);
+        assertThat(data.get("likeCount").asInt()).isEqualTo(2);
+        assertThat(data.get("commentCount").asInt()).isEqualTo(1);
+        assertThat(data.get("isLiked").isBoolean()).isTrue();
+
+        JsonNode author = data.get("author");
+        assertThat(fieldNames(author)).containsExactlyInAnyOrder("id", "nickname", "profileImageUrl");
+        assertThat(author.get("nickname").asText()).isEqualTo("작성자");
+
+        JsonNode images = data.get("images");
+        assertThat(images).hasSize(2);
+        assertThat(fieldNames(images.get(0))).containsExactlyInAnyOrder("id", "imageUrl", "sortOrder");
+        assertThat(images.get(1).get("imageUrl").asText()).isEqualTo("https://img/2.png");
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
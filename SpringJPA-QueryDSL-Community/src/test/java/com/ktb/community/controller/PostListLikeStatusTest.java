@@ -0,0 +1,108 @@
+package com.ktb.community.controller;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.service.PostService;
+import com.ktb.community.util.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET /posts 목록의 isLiked - 토큰이 있으면 본인 좋아요 여부, 없으면 항상 false (오프셋/커서 모드 모두)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PostListLikeStatusTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired PostService postService;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired JwtUtil jwtUtil;
+
+    @DisplayName("로그인 사용자는 좋아요한 글만 isLiked=true, 비로그인/다른 사용자는 모두 false")
+    @Test
+    void list_isLikedPerViewer() throws Exception {
+        // given
+        User author = newUser();
+        User viewer = newUser();
+        User other = newUser();
+        Integer liked = newPost(author);
+        Integer notLiked = newPost(author);
+        postService.like(viewer.getId(), liked);
+
+        // when, then
+        for (MockHttpServletRequestBuilder req : listRequests(author.getId())) {
+            mvc.perform(req)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.posts", hasSize(2)))
+                    .andExpect(jsonPath("$.data.posts[*].isLiked", everyItem(is(false))));
+            mvc.perform(req.header("Authorization", bearer(viewer)))
+                    .andExpect(jsonPath("$.data.posts[?(@.id == " + liked + ")].isLiked", contains(true)))
+                    .andExpect(jsonPath("$.data.posts[?(@.id == " + notLiked + ")].isLiked", contains(false)));
+        }
+        for (MockHttpServletRequestBuilder req : listRequests(author.getId())) {
+            mvc.perform(req.header("Authorization", bearer(other)))
+                    .andExpect(jsonPath("$.data.posts[*].isLiked", everyItem(is(false))));
+        }
+    }
+
+    @DisplayName("필터 없는 첫 페이지(동시 조회 합치기 경로)도 사용자별로 채우고 비로그인 응답에 섞이지 않는다")
+    @Test
+    void feed_isLikedNotSharedAcrossViewers() throws Exception {
+        // given
+        User author = newUser();
+        User viewer = newUser();
+        Integer liked = newPost(author);
+        postService.like(viewer.getId(), liked);
+        String likedPath = "$.data.posts[?(@.id == " + liked + ")].isLiked";
+
+        // when, then
+        mvc.perform(get("/posts").param("size", "100").header("Authorization", bearer(viewer)))
+                .andExpect(jsonPath(likedPath, contains(true)));
+        mvc.perform(get("/posts").param("size", "100"))
+                .andExpect(jsonPath(likedPath, contains(false)));
+        mvc.perform(get("/posts").param("cursor", "").param("size", "100").header("Authorization", bearer(viewer)))
+                .andExpect(jsonPath(likedPath, contains(true)));
+        mvc.perform(get("/posts").param("cursor", "").param("size", "100"))
+                .andExpect(jsonPath(likedPath, contains(false)));
+    }
+
+    /** 오프셋 모드, 커서 모드 각각 같은 작성자 글만 */
+    private static List<MockHttpServletRequestBuilder> listRequests(Integer authorId) {
+        return List.of(
+                get("/posts").param("authorId", String.valueOf(authorId)),
+                get("/posts").param("authorId", String.valueOf(authorId)).param("cursor", ""));
+    }
+
+    private String bearer(User u) {
+        return "Bearer " + jwtUtil.generateAccessToken(u.getId(), u.getEmail(), u.getNickname());
+    }
+
+    private User newUser() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User u = new User();
+        u.setNickname("l" + tag); u.setEmail(tag + "@like.test"); u.setPassword("pass1234");
+        return users.save(u);
+    }
+
+    private Integer newPost(User author) {
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle("좋아요 목록"); p.setContent("본문");
+        return posts.save(p).getId();
+    }
+}
@@ -0,0 +1,36 @@
+package com.ktb.community.domain;
+
+import com.ktb.community.util.IdBlockAllocator;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class BlockIdGeneratorTest {
+
+    @Autowired EntityManagerFactory emf;
+    @Autowired IdBlockAllocator allocator;
+
+    @DisplayName("@BlockId 엔티티의 생성기는 모두 Spring 컨텍스트의 IdBlockAllocator 싱글턴을 쓴다")
+    @Test
+    void generatorsUseSpringSingleton() {
+        // given
+        SessionFactoryImplementor sf = emf.unwrap(SessionFactoryImplementor.class);
+
+        // when
+        List<Object> generators = List.of(User.class, Post.class, PostImage.class, Comment.class).stream()
+                .map(type -> (Object) sf.getMappingMetamodel().getEntityDescriptor(type).getGenerator())
+                .toList();
+
+        // then
+        assertThat(generators).allSatisfy(g ->
+                assertThat(((BlockIdGenerator) g).allocator()).isSameAs(allocator));
+    }
+}
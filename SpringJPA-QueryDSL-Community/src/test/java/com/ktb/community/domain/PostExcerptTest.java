@@ -0,0 +1,52 @@
+package com.ktb.community.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostExcerptTest {
+
+    @DisplayName("EXCERPT_LENGTH자 이하는 그대로, 초과하면 정확히 EXCERPT_LENGTH자에서 자른다")
+    @Test
+    void excerptOf_truncatesAtBoundary() {
+        // given
+        String exact = "가".repeat(Post.EXCERPT_LENGTH);
+
+        // when / then
+        assertThat(Post.excerptOf(exact)).isEqualTo(exact);
+        assertThat(Post.excerptOf(exact + "나")).isEqualTo(exact);
+        assertThat(Post.excerptOf(null)).isNull();
+    }
+
+    @DisplayName("앞뒤 공백 제거, 줄바꿈/연속 공백은 공백 하나로 - 자르기는 정리한 뒤 기준")
+    @Test
+    void excerptOf_collapsesWhitespace() {
+        // when / then
+        assertThat(Post.excerptOf("  첫 줄\n\n둘째   줄\t끝  ")).isEqualTo("첫 줄 둘째 줄 끝");
+        assertThat(Post.excerptOf("a\n".repeat(Post.EXCERPT_LENGTH))).hasSize(Post.EXCERPT_LENGTH);
+    }
+
+    @DisplayName("NFKC 정규화 - 전각 문자/호환 문자는 일반 문자로, 조합형 한글은 완성형으로")
+    @Test
+    void excerptOf_normalizesNfkc() {
+        // when / then
+        assertThat(Post.excerptOf("ＳＰＲＩＮＧ　①")).isEqualTo("SPRING 1");
+        assertThat(Post.excerptOf("가")).isEqualTo("가");
+    }
+
+    @DisplayName("경계에 걸친 서로게이트 쌍(이모지)은 반쪽만 남기지 않고 통째로 뺀다")
+    @Test
+    void excerptOf_doesNotSplitSurrogatePair() {
+        // given
+        String prefix = "a".repeat(Post.EXCERPT_LENGTH - 1);
+
+        // when
+        String excerpt = Post.excerptOf(prefix + "😀" + "뒤");
+
+        // then
+        assertThat(excerpt).isEqualTo(prefix);
+        assertThat(Post.excerptOf("a".repeat(Post.EXCERPT_LENGTH - 2) + "😀" + "뒤"))
+                .isEqualTo("a".repeat(Post.EXCERPT_LENGTH - 2) + "😀");
+    }
+}
@@ -0,0 +1,49 @@
+package com.ktb.community.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 실제 컨트롤러 선언으로 만든 분류표 기준 인증 필터 동작 (공개 경로는 선언한 패턴/메서드에만)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtAuthenticationFilterTest {
+
+    @Autowired MockMvc mvc;
+
+    @DisplayName("/privacy는 GET/HEAD 공개, 그 아래 경로는 인증 필요")
+    @Test
+    void privacy_exactPathIsPublic() throws Exception {
+        mvc.perform(get("/privacy")).andExpect(status().isOk());
+        mvc.perform(head("/privacy")).andExpect(status().isOk());
+        mvc.perform(get("/privacy/terms")).andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("로그인은 POST만 공개 - 다른 메서드는 토큰 없이 401")
+    @Test
+    void login_publicOnlyForPost() throws Exception {
+        mvc.perform(get("/users/login")).andExpect(status().isUnauthorized());
+        mvc.perform(put("/users/login")).andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("CORS preflight는 인증 없이 CORS 설정으로 응답 (공개/인증 필요 경로 모두)")
+    @Test
+    void preflight_skipsAuthentication() throws Exception {
+        for (String path : new String[]{ "/users/login", "/posts" }) {
+            mvc.perform(options(path)
+                            .header(HttpHeaders.ORIGIN, "http://localhost:3003")
+                            .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "http://localhost:3003"));
+        }
+    }
+}
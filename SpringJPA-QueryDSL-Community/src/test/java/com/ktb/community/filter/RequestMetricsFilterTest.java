@@ -0,0 +1,83 @@
+package com.ktb.community.filter;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 지연/SQL 수 지표가 매핑 패턴(route) 태그로 기록되는지
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RequestMetricsFilterTest {
+
+    @Autowired MockMvc mvc;
+    @Autowired MeterRegistry registry;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+
+    @DisplayName("상세 조회 → route=/posts/{postId} 태그로 지연, SQL 수, JDBC 시간 기록")
+    @Test
+    void detail_recordsPerRouteMetrics() throws Exception {
+        // given
+        User u = new User();
+        u.setNickname("metric"); u.setEmail("metric@test.com"); u.setPassword("pass1234");
+        users.save(u);
+        Post p = new Post();
+        p.setAuthor(u); p.setTitle("지표"); p.setContent("본문");
+        Integer postId = posts.save(p).getId();
+
+        // when
+        mvc.perform(get("/posts/{postId}", postId)).andExpect(status().isOk());
+
+        // then
+        Timer latency = registry.find("app.request")
+                .tags("route", "/posts/{postId}", "method", "GET", "status", "200").timer();
+        assertThat(latency).isNotNull();
+        assertThat(latency.count()).isEqualTo(1);
+
+        DistributionSummary sql = registry.find("app.request.sql.statements")
+                .tags("route", "/posts/{postId}", "method", "GET").summary();
+        assertThat(sql).isNotNull();
+        assertThat(sql.totalAmount()).isGreaterThanOrEqualTo(1);
+
+        Timer jdbc = registry.find("app.request.sql.time")
+                .tags("route", "/posts/{postId}", "method", "GET").timer();
+        assertThat(jdbc).isNotNull();
+        assertThat(jdbc.totalTime(java.util.concurrent.TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @DisplayName("같은 route/method/status의 반복 요청은 처음 등록한 미터 하나에 누적된다")
+    @Test
+    void repeatedRequests_reuseRegisteredMeters() throws Exception {
+        // given
+        mvc.perform(get("/posts/{postId}", Integer.MAX_VALUE)).andExpect(status().isNotFound());
+        Timer first = registry.find("app.request")
+                .tags("route", "/posts/{postId}", "method", "GET", "status", "404").timer();
+        assertThat(first).isNotNull();
+        long before = first.count();
+
+        // when
+        mvc.perform(get("/posts/{postId}", Integer.MAX_VALUE)).andExpect(status().isNotFound());
+        mvc.perform(get("/posts/{postId}", Integer.MAX_VALUE)).andExpect(status().isNotFound());
+
+        // then
+        assertThat(registry.find("app.request")
+                .tags("route", "/posts/{postId}", "method", "GET", "status", "404").timers()).containsExactly(first);
+        assertThat(first.count()).isEqualTo(before + 2);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ktb.community.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutePolicyTableTest {
+
+    private final RoutePolicyTable table = RoutePolicyTable.of(List.of(
+            new RoutePolicyTable.Route("GET", "/posts", AuthLevel.PUBLIC),
+            new RoutePolicyTable.Route("GET", "/posts/{postId}", AuthLevel.OPTIONAL),
+            new RoutePolicyTable.Route("GET", "/posts/me/likes", AuthLevel.REQUIRED),
+            new RoutePolicyTable.Route("GET", "/posts/{postId}/comments", AuthLevel.PUBLIC),
+            new RoutePolicyTable.Route("POST", "/posts/{postId}/comments", AuthLevel.REQUIRED),
+            new RoutePolicyTable.Route("POST", "/users/login", AuthLevel.PUBLIC),
+            new RoutePolicyTable.Route("GET", "/privacy", AuthLevel.PUBLIC),
+            new RoutePolicyTable.Route("HEAD", "/privacy", AuthLevel.PUBLIC)
+    ));
+
+    @Test
+    void classify_literalAndVariableSegmentsPerMethod() {
+        assertThat(table.classify("GET", "/posts")).isEqualTo(AuthLevel.PUBLIC);
+        assertThat(table.classify("GET", "/posts/12")).isEqualTo(AuthLevel.OPTIONAL);
+        assertThat(table.classify("GET", "/posts/12/comments")).isEqualTo(AuthLevel.PUBLIC);
+        assertThat(table.classify("POST", "/posts/12/comments")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("POST", "/users/login")).isEqualTo(AuthLevel.PUBLIC);
+    }
+
+    @Test
+    void classify_literalWinsOverVariable() {
+        assertThat(table.classify("GET", "/posts/me/likes")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("GET", "/posts/me")).isEqualTo(AuthLevel.OPTIONAL);
+    }
+
+    @Test
+    void classify_unknownRouteIsRequired() {
+        assertThat(table.classify("GET", "/users/login")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("DELETE", "/posts")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("GET", "/posts/12/unknown")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("GET", "/posts//comments")).isEqualTo(AuthLevel.REQUIRED);
+    }
+
+    // 이전 필터는 /privacy로 시작하는 모든 경로와 /users/login 등의 모든 메서드를 공개로 봤다 - 지금은 선언한 패턴/메서드만
+    @Test
+    void classify_exactPathOnlyNoPrefix() {
+        assertThat(table.classify("GET", "/privacy")).isEqualTo(AuthLevel.PUBLIC);
+        assertThat(table.classify("HEAD", "/privacy")).isEqualTo(AuthLevel.PUBLIC);
+        assertThat(table.classify("GET", "/privacy/terms")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("GET", "/privacy-old")).isEqualTo(AuthLevel.REQUIRED);
+    }
+
+    @Test
+    void classify_publicOnlyForDeclaredMethod() {
+        assertThat(table.classify("POST", "/users/login")).isEqualTo(AuthLevel.PUBLIC);
+        assertThat(table.classify("PUT", "/users/login")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("OPTIONS", "/users/login")).isEqualTo(AuthLevel.REQUIRED);
+        assertThat(table.classify("POST", "/privacy")).isEqualTo(AuthLevel.REQUIRED);
+    }
+}
@@ -0,0 +1,78 @@
+package com.ktb.community.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.PostImage;
+import com.ktb.community.domain.PostLike;
+import com.ktb.community.domain.User;
+import com.ktb.community.search.PostSearchIndex;
+import com.ktb.community.util.IdBlockAllocator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 목록 이미지 일괄 로딩(hydrateImages) - 게시글 수와 무관하게 SQL 수가 일정한지 검증
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostSearchIndex.class, IdBlockAllocator.class})
+class PostImageHydrationTest {
+
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired PostImageRepository images;
+    @Autowired PostLikeRepository likes;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    @DisplayName("좋아요한 게시글 50개 목록 - 조회/카운트/이미지 3개의 SQL로 직렬화까지 완료")
+    @Test
+    void likedPosts_statementCountIsConstant() throws Exception {
+        // given
+        User u = new User();
+        u.setNickname("neo"); u.setEmail("neo@test.com"); u.setPassword("pass1234");
+        users.save(u);
+        for (int n = 0; n < 50; n++) {
+            Post p = new Post();
+            p.setAuthor(u); p.setTitle("제목" + n); p.setContent("본문" + n);
+            posts.save(p);
+            for (int s = 1; s <= 3; s++) {
+                PostImage img = new PostImage();
+                img.setPost(p); img.setImageUrl("https://img.example/" + n + "-" + s + ".jpg"); img.setSortOrder(s);
+                images.save(img);
+            }
+            likes.save(new PostLike(u, p));
+        }
+        em.flush();
+        em.clear();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // when
+        Page<Post> page = likes.findPostsLikedByUser(u.getId(), PageRequest.of(0, 50));
+        images.hydrateImages(page.getContent());
+        String json = new ObjectMapper().findAndRegisterModules().writeValueAsString(page.getContent());
+
+        // then
+        assertThat(page.getContent()).hasSize(50);
+        assertThat(page.getContent()).allSatisfy(p -> assertThat(p.getImages())
+                .extracting(PostImage::getSortOrder).containsExactly(1, 2, 3));
+        assertThat(json).contains("https://img.example/49-3.jpg");
+        // 목록 1 + total count 1 + 이미지 IN 조회 1
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
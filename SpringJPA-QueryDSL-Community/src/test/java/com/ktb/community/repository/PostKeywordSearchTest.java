@@ -0,0 +1,55 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.search.PostSearchIndex;
+import com.ktb.community.util.IdBlockAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 키워드 검색의 LIKE 조건 (색인 미준비 상태 = LIKE만으로 검색)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostSearchIndex.class, IdBlockAllocator.class})
+class PostKeywordSearchTest {
+
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+
+    @DisplayName("제목 또는 본문(longtext)에 검색어가 있으면 대소문자 무시하고 일치")
+    @Test
+    void search_matchesTitleOrContentIgnoringCase() {
+        // given
+        User u = new User();
+        u.setNickname("neo"); u.setEmail("neo@test.com"); u.setPassword("pass1234");
+        users.save(u);
+        Integer inTitle = save(u, "Spring 트랜잭션 질문", "본문");
+        Integer inContent = save(u, "질문", "spring 전파 속성이 궁금합니다");
+        save(u, "자바", "스트림 질문");
+
+        // when
+        Page<PostSummary> page = posts.search("SPRING", null, null, null, null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(page.getContent()).extracting(PostSummary::id).containsExactlyInAnyOrder(inTitle, inContent);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    private Integer save(User author, String title, String content) {
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle(title); p.setContent(content);
+        return posts.save(p).getId();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.search.PostSearchIndex;
+import com.ktb.community.search.PostSearchIndexer;
+import com.ktb.community.util.IdBlockAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 색인 후보를 정렬 순서대로 창 단위로 확인하는 키워드 검색 - LIKE만으로 검색한 결과와 같은 순서/개수
+ * - n-gram은 모두 있지만 검색어가 이어지지 않은 게시글(거짓 양성)이 섞여 있다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostSearchIndex.class, PostSearchIndexer.class, IdBlockAllocator.class})
+class PostKeywordWindowSearchTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired PostSearchIndex index;
+    @Autowired PostSearchIndexer indexer;
+
+    private final List<Post> matches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User u = new User();
+        u.setNickname("seeker"); u.setEmail("seeker@test.com"); u.setPassword("pass1234");
+        users.save(u);
+        for (int i = 0; i < 12; i++) {
+            matches.add(save(u, "스프링 질문 " + i, "본문", T0.plusHours(i), i % 4));
+            save(u, "스프 프링 " + i, "거짓 양성", T0.plusHours(i).plusMinutes(30), 9);
+        }
+        save(u, "자바", "스트림", T0.plusDays(1), 9);
+        indexer.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    @DisplayName("최신순 오프셋 페이지 - 색인 후보를 게시 시각 순으로 잘라 확인해도 순서와 total이 정확")
+    @Test
+    void offsetPage_latest() {
+        // when
+        Page<PostSummary> page = posts.search("스프링", null, null, null, null,
+                PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "publishedAt")));
+
+        // then
+        assertThat(page.getContent()).extracting(PostSummary::id).containsExactlyElementsOf(ids(latest()).subList(5, 10));
+        assertThat(page.getTotalElements()).isEqualTo(12);
+    }
+
+    @DisplayName("오프셋 마지막 페이지/범위 밖 페이지 - 후보를 모두 확인했으면 그 수가 total")
+    @Test
+    void offsetPage_lastPageTotalFromWindow() {
+        // when
+        Page<PostSummary> last = posts.search("스프링", null, null, null, null,
+                PageRequest.of(2, 5, Sort.by(Sort.Direction.DESC, "publishedAt")));
+        Page<PostSummary> beyond = posts.search("스프링", null, null, null, null,
+                PageRequest.of(5, 5, Sort.by(Sort.Direction.DESC, "likeCount")));
+
+        // then
+        assertThat(last.getContent()).extracting(PostSummary::id).containsExactlyElementsOf(ids(latest()).subList(10, 12));
+        assertThat(last.getTotalElements()).isEqualTo(12);
+        assertThat(beyond.getContent()).isEmpty();
+        assertThat(beyond.getTotalElements()).isEqualTo(12);
+    }
+
+    @DisplayName("최신순 커서 - 끝까지 넘겨도 일치 게시글만 한 번씩, 기간 필터도 색인 정렬에서 적용")
+    @Test
+    void cursor_latest() {
+        // when / then
+        assertThat(ids(all("LATEST", null, null))).containsExactlyElementsOf(ids(latest()));
+        assertThat(ids(all("LATEST", T0.plusHours(3), T0.plusHours(7))))
+                .containsExactlyElementsOf(ids(latest()).subList(4, 9));
+    }
+
+    @DisplayName("좋아요순 커서 - DB가 후보 id를 정렬해 창 단위로 확인")
+    @Test
+    void cursor_popular() {
+        // given
+        List<Post> expected = matches.stream()
+                .sorted(Comparator.comparing(Post::getLikeCount).thenComparing(Post::getId).reversed())
+                .toList();
+
+        // when / then
+        assertThat(ids(all("POPULAR", null, null))).containsExactlyElementsOf(ids(expected));
+    }
+
+    private List<PostSummary> all(String sort, LocalDateTime from, LocalDateTime to) {
+        List<PostSummary> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<PostSummary> page = posts.searchByCursor("스프링", null, null, from, to, sort, cursor, 5, false);
+            seen.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return seen;
+    }
+
+    private List<Post> latest() {
+        return matches.stream().sorted(Comparator.comparing(Post::getPublishedAt).reversed()).toList();
+    }
+
+    private static List<Integer> ids(List<?> rows) {
+        return rows.stream().map(r -> r instanceof Post p ? p.getId() : ((PostSummary) r).id()).toList();
+    }
+
+    private Post save(User author, String title, String content, LocalDateTime publishedAt, int likes) {
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle(title); p.setContent(content);
+        p.setPublishedAt(publishedAt); p.setLikeCount(likes);
+        return posts.save(p);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.search.PostSearchIndex;
+import com.ktb.community.util.IdBlockAllocator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PostLikeRepository.insertIfAbsent - PK 중복만 false, 다른 무결성 오류는 예외
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostSearchIndex.class, IdBlockAllocator.class})
+class PostLikeInsertTest {
+
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired PostLikeRepository likes;
+
+    @DisplayName("처음이면 true, 이미 있으면 false - 같은 트랜잭션에서 계속 쓸 수 있다")
+    @Test
+    void insertIfAbsent_duplicateReturnsFalse() {
+        // given
+        User u = user();
+        Integer postId = post(u);
+
+        // when
+        boolean first = likes.insertIfAbsent(u.getId(), postId);
+        boolean second = likes.insertIfAbsent(u.getId(), postId);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(likes.countByPostId(postId)).isEqualTo(1);
+    }
+
+    @DisplayName("없는 게시글(FK 위반)은 삼키지 않고 DataIntegrityViolationException")
+    @Test
+    void insertIfAbsent_foreignKeyViolationPropagates() {
+        // given
+        User u = user();
+
+        // when / then
+        assertThatThrownBy(() -> likes.insertIfAbsent(u.getId(), 999_999))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(DuplicateKeyException.class);
+    }
+
+    private User user() {
+        User u = new User();
+        u.setNickname("liker"); u.setEmail("liker@test.com"); u.setPassword("pass1234");
+        return users.saveAndFlush(u);
+    }
+
+    private Integer post(User author) {
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle("제목"); p.setContent("본문");
+        return posts.saveAndFlush(p).getId();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.config.QuerydslConfig;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.AuthorSummary;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.search.PostSearchIndex;
+import com.ktb.community.util.IdBlockAllocator;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 목록 카드 프로젝션(PostSummary) - 선택 컬럼 매핑과 excerpt가 비어 있는 기존 행 처리
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostSearchIndex.class, IdBlockAllocator.class})
+class PostSummaryProjectionTest {
+
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbc;
+
+    @DisplayName("카드 컬럼(작성자 요약, 카운터, 썸네일, 요약)을 그대로 매핑")
+    @Test
+    void summary_mapsFeedColumns() {
+        // given
+        User author = author();
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle("제목"); p.setContent("  본문\n요약  ");
+        p.setImageStats(2, "https://img/1.png");
+        p.setViewCount(7); p.setLikeCount(3); p.setCommentCount(1);
+        Integer id = posts.save(p).getId();
+        em.flush(); em.clear();
+
+        // when
+        List<PostSummary> rows = posts.findSummariesByIds(List.of(id));
+
+        // then
+        assertThat(rows).singleElement().satisfies(s -> {
+            assertThat(s.title()).isEqualTo("제목");
+            assertThat(s.excerpt()).isEqualTo("본문 요약");
+            assertThat(s.author()).isEqualTo(new AuthorSummary(author.getId(), "작성자", null));
+            assertThat(s.viewCount()).isEqualTo(7);
+            assertThat(s.likeCount()).isEqualTo(3);
+            assertThat(s.commentCount()).isEqualTo(1);
+            assertThat(s.thumbnailUrl()).isEqualTo("https://img/1.png");
+            assertThat(s.isLiked()).isFalse();
+        });
+    }
+
+    @DisplayName("excerpt가 NULL인 기존 행은 조회 시 본문에서 계산 - 오프셋/커서/id 조회 모두")
+    @Test
+    void summary_computesExcerptWhenColumnIsNull() {
+        // given
+        User author = author();
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle("백필 전"); p.setContent("ＡＢＣ " + "가".repeat(Post.EXCERPT_LENGTH));
+        Integer id = posts.save(p).getId();
+        em.flush(); em.clear();
+        jdbc.update("UPDATE posts SET excerpt = NULL WHERE post_id = ?", id);
+        String expected = Post.excerptOf(p.getContent());
+
+        // when
+        PostSummary byId = posts.findSummariesByIds(List.of(id)).get(0);
+        PostSummary byOffset = posts.search(null, author.getId(), null, null, null, PageRequest.of(0, 10)).getContent().get(0);
+        PostSummary byCursor = posts.searchByCursor(null, author.getId(), null, null, null, "LATEST", null, 10, false).getContent().get(0);
+
+        // then
+        assertThat(expected).startsWith("ABC 가").hasSize(Post.EXCERPT_LENGTH);
+        assertThat(List.of(byId, byOffset, byCursor)).extracting(PostSummary::excerpt).containsOnly(expected);
+        assertThat(jdbc.queryForObject("SELECT excerpt FROM posts WHERE post_id = ?", String.class, id)).isNull();
+    }
+
+    private User author() {
+        User u = new User();
+        u.setNickname("작성자"); u.setEmail("author@test.com"); u.setPassword("pass1234");
+        return users.save(u);
+    }
+}
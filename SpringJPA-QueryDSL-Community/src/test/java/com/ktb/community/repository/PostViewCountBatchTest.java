@@ -0,0 +1,72 @@
+package com.ktb.community.repository;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조회수 배치 반영의 원자성 - 테스트 자체는 트랜잭션 없이 실행 (autocommit 상태에서 호출되는 flush와 같은 조건)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostViewCountBatchTest {
+
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired JdbcTemplate jdbc;
+
+    @DisplayName("배치 중간 행이 실패하면 앞서 실행된 행도 반영되지 않는다")
+    @Test
+    void addViewCounts_failurePartway_appliesNothing() {
+        // given: post_id 순으로 첫 행은 정상, 둘째 행은 덧셈이 정수 범위를 넘겨 실패
+        Integer first = newPost();
+        Integer second = newPost();
+        jdbc.update("UPDATE posts SET view_count = 1 WHERE post_id = ?", second);
+        Map<Integer, Long> deltas = new TreeMap<>(Map.of(first, 3L, second, Long.MAX_VALUE));
+
+        // when
+        assertThatThrownBy(() -> posts.addViewCounts(deltas)).isInstanceOf(RuntimeException.class);
+
+        // then
+        assertThat(viewCount(first)).isZero();
+        assertThat(viewCount(second)).isEqualTo(1);
+    }
+
+    @DisplayName("성공하면 모든 행의 view_count가 증분만큼 늘어난다")
+    @Test
+    void addViewCounts_appliesAllDeltas() {
+        // given
+        Integer first = newPost();
+        Integer second = newPost();
+
+        // when
+        posts.addViewCounts(new TreeMap<>(Map.of(first, 3L, second, 5L)));
+
+        // then
+        assertThat(viewCount(first)).isEqualTo(3);
+        assertThat(viewCount(second)).isEqualTo(5);
+    }
+
+    private int viewCount(Integer postId) {
+        return jdbc.queryForObject("SELECT view_count FROM posts WHERE post_id = ?", Integer.class, postId);
+    }
+
+    private Integer newPost() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User u = new User();
+        u.setNickname("v" + tag); u.setEmail(tag + "@views.test"); u.setPassword("pass1234");
+        Post p = new Post();
+        p.setAuthor(users.save(u));
+        p.setTitle("조회수"); p.setContent("본문");
+        return posts.save(p).getId();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NgramTokenizerTest {
+
+    @DisplayName("문자/숫자 run마다 2-gram, 1글자 run은 그대로 - 구두점/공백에서 끊는다")
+    @Test
+    void tokenize_splitsRunsIntoBigrams() {
+        // when
+        var terms = NgramTokenizer.tokenize("스프링 JPA, a!");
+
+        // then
+        assertThat(terms).containsExactly("스프", "프링", "jp", "pa", "a");
+    }
+
+    @DisplayName("NFKC 정규화 + 소문자화 - 전각 문자도 반각과 같은 term")
+    @Test
+    void tokenize_normalizesWidthAndCase() {
+        // when / then
+        assertThat(NgramTokenizer.tokenize("ＳＰＲＩＮＧ")).isEqualTo(NgramTokenizer.tokenize("spring"));
+    }
+
+    @DisplayName("악센트 제거, ß/æ 같은 확장 - 콜레이션이 같다고 보는 변형은 같은 term")
+    @Test
+    void tokenize_foldsAccentsAndExpansions() {
+        // when / then
+        assertThat(NgramTokenizer.tokenize("Café Crème")).isEqualTo(NgramTokenizer.tokenize("cafe creme"));
+        assertThat(NgramTokenizer.tokenize("Straße")).isEqualTo(NgramTokenizer.tokenize("STRASSE"));
+        assertThat(NgramTokenizer.tokenize("Æon")).isEqualTo(NgramTokenizer.tokenize("aeon"));
+        assertThat(NgramTokenizer.tokenize("한글 ㄱ")).containsExactly("한글", "ᄀ");
+    }
+
+    @DisplayName("null/빈 문자열은 term 없음")
+    @Test
+    void tokenize_emptyInput() {
+        // when / then
+        assertThat(NgramTokenizer.tokenize(null)).isEmpty();
+        assertThat(NgramTokenizer.tokenize("  !! ")).isEmpty();
+    }
+
+    @DisplayName("1글자 run이 있거나 문자가 없는 검색어는 색인으로 좁히지 않는다")
+    @Test
+    void isIndexable() {
+        // when / then
+        assertThat(NgramTokenizer.isIndexable("스프링 부트")).isTrue();
+        assertThat(NgramTokenizer.isIndexable("스프링 a")).isFalse();
+        assertThat(NgramTokenizer.isIndexable("!!")).isFalse();
+        assertThat(NgramTokenizer.isIndexable(null)).isFalse();
+        assertThat(NgramTokenizer.isIndexable("Café")).isTrue();
+        assertThat(NgramTokenizer.isIndexable("Ωmega")).isFalse();
+    }
+}
@@ -0,0 +1,152 @@
+package com.ktb.community.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    @DisplayName("모든 term을 포함하는 게시글만 후보 (제목+본문), 교체/삭제 반영")
+    @Test
+    void candidates_intersectsTermsAndTracksUpdates() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(true, 100, 1000);
+        index.index(1, "스프링 트랜잭션", "전파 속성", null);
+        index.index(2, "스프링 부트", "자동 설정", null);
+        index.index(3, "자바", "트랜잭션 격리 수준", null);
+        index.markReady();
+
+        // when / then
+        assertThat(index.candidates("스프링")).containsExactly(1, 2);
+        assertThat(index.candidates("트랜잭션")).containsExactly(1, 3);
+        assertThat(index.candidates("스프링 트랜잭션")).containsExactly(1);
+        assertThat(index.candidates("코틀린")).isEmpty();
+
+        index.index(2, "코틀린", "코루틴", null);
+        index.remove(3);
+        assertThat(index.candidates("스프링")).containsExactly(1);
+        assertThat(index.candidates("트랜잭션")).containsExactly(1);
+        assertThat(index.candidates("코틀린")).containsExactly(2);
+        assertThat(index.documentCount()).isEqualTo(2);
+    }
+
+    @DisplayName("색인으로 판단할 수 없으면 null - 미준비, 1글자 검색어, 후보 상한 초과")
+    @Test
+    void candidates_returnsNullWhenIndexCannotDecide() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(true, 2, 1000);
+        for (int id = 1; id <= 3; id++) index.index(id, "스프링 " + id, "본문", null);
+
+        // when / then
+        assertThat(index.candidates("스프링")).isNull();
+        index.markReady();
+        assertThat(index.candidates("스")).isNull();
+        assertThat(index.candidates("스프링")).isNull();
+        assertThat(index.candidates("스프링 1")).isNull();
+        assertThat(index.candidates("본문")).isNull();
+    }
+
+    @DisplayName("비활성화하면 색인하지 않고 항상 null")
+    @Test
+    void disabled() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(false, 100, 1000);
+
+        // when
+        index.index(1, "스프링", "본문", null);
+        index.markReady();
+
+        // then
+        assertThat(index.documentCount()).isZero();
+        assertThat(index.candidates("스프링")).isNull();
+    }
+
+    @DisplayName("콜레이션이 같다고 보는 악센트/전각/대소문자/확장 문자 변형도 후보에 포함된다")
+    @Test
+    void candidates_includeCollationEqualVariants() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(true, 100, 1000);
+        index.index(1, "Café 후기", "본문", null);
+        index.index(2, "Straße", "본문", null);
+        index.index(3, "ＪＰＡ 정리", "Encyclopædia", null);
+        index.markReady();
+
+        // when / then
+        assertThat(index.candidates("cafe")).containsExactly(1);
+        assertThat(index.candidates("CAFÉ")).containsExactly(1);
+        assertThat(index.candidates("strasse")).containsExactly(2);
+        assertThat(index.candidates("jpa")).containsExactly(3);
+        assertThat(index.candidates("encyclopaedia")).containsExactly(3);
+    }
+
+    @DisplayName("접는 규칙을 확인하지 않은 문자가 있는 검색어는 색인 대신 LIKE (null)")
+    @Test
+    void candidates_unverifiedScriptFallsBackToLike() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(true, 100, 1000);
+        index.index(1, "Привет мир", "本文 αβγ", null);
+        index.markReady();
+
+        // when / then
+        assertThat(index.candidates("привет")).isNull();
+        assertThat(index.candidates("αβγ")).isNull();
+        assertThat(index.candidates("本文")).containsExactly(1);
+    }
+
+    @DisplayName("항목 상한을 넘으면 가장 흔한 term만 색인에서 빼고, 그 term은 검색에서 건너뛴다")
+    @Test
+    void index_overMaxPostingsStopsFrequentTerms() {
+        // given: 상한 10 항목
+        PostSearchIndex index = new PostSearchIndex(true, 100, 10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        index.bindTo(registry);
+        index.index(1, "스프링", "본문 하나", null);   // 스프, 프링, 본문, 하나
+        index.index(2, "자바", "본문 둘", null);       // 자바, 본문, 둘
+        index.markReady();
+        assertThat(registry.get("search.index.postings").gauge().value()).isEqualTo(7);
+
+        // when: 11 항목 → 가장 흔한 "본문"(3개)을 빼서 9 이하로
+        index.index(3, "코틀린", "본문 셋", null);     // 코틀, 틀린, 본문, 셋
+
+        // then: 색인은 계속 사용
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.documentCount()).isEqualTo(3);
+        assertThat(registry.get("search.index.postings").gauge().value()).isEqualTo(8);
+        assertThat(registry.get("search.index.stopped-terms").gauge().value()).isEqualTo(1);
+        assertThat(index.candidates("코틀린")).containsExactly(3);
+        assertThat(index.candidates("스프링 본문")).containsExactly(1);
+        assertThat(index.candidates("본문")).isNull();
+
+        // when: 이후 삭제/색인도 중지 term을 빼고 반영
+        index.remove(1);                               // 8 - 3 = 5
+        index.index(4, "본문 스프링", "내용", null);   // 스프, 프링, 내용 (본문 제외) → 8
+
+        // then
+        assertThat(index.candidates("스프링")).containsExactly(4);
+        assertThat(registry.get("search.index.postings").gauge().value()).isEqualTo(8);
+    }
+
+    @DisplayName("최신순 정렬 - 게시 시각, id 내림차순으로 커서 이후와 기간 안의 후보만")
+    @Test
+    void orderByLatest_sortsAndSeeks() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(true, 100, 1000);
+        java.time.LocalDateTime t = java.time.LocalDateTime.of(2026, 1, 1, 12, 0);
+        index.index(1, "스프링", "본문", t.plusHours(2));
+        index.index(2, "스프링", "본문", t);
+        index.index(3, "스프링", "본문", t);
+        index.index(4, "스프링", "본문", t.plusHours(1));
+        index.markReady();
+        int[] all = index.candidates("스프링");
+
+        // when / then
+        assertThat(index.orderByLatest(all, null, null, null, null)).containsExactly(1, 4, 3, 2);
+        assertThat(index.orderByLatest(all, t, 3, null, null)).containsExactly(2);
+        assertThat(index.orderByLatest(all, t.plusHours(2), 1, null, null)).containsExactly(4, 3, 2);
+        assertThat(index.orderByLatest(all, null, null, t.plusMinutes(1), t.plusHours(1))).containsExactly(4);
+        index.remove(4);
+        assertThat(index.orderByLatest(all, null, null, null, null)).containsExactly(1, 3, 2);
+    }
+}
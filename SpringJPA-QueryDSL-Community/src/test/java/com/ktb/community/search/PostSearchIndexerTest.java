@@ -0,0 +1,41 @@
+package com.ktb.community.search;
+
+import com.ktb.community.event.PostEvents;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.custom.PostRepositoryCustom.TextRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PostSearchIndexerTest {
+
+    @DisplayName("재구축 스캔이 읽은 뒤 수정/삭제 이벤트가 오면 스캔의 오래된 내용으로 덮어쓰지 않는다")
+    @Test
+    void rebuild_keepsUpdatesMadeDuringScan() {
+        // given
+        PostSearchIndex index = new PostSearchIndex(true, 100, 1000);
+        PostRepository posts = mock(PostRepository.class);
+        PostSearchIndexer indexer = new PostSearchIndexer(index, posts, 10);
+        when(posts.findActiveTextAfter(eq(0), anyInt())).thenAnswer(inv -> {
+            List<TextRow> stale = List.of(new TextRow(1, "스프링", "본문", null), new TextRow(2, "자바", "본문", null));
+            // 스캔이 행을 읽은 직후 커밋된 변경
+            indexer.onSaved(new PostEvents.Saved(1, "코틀린", "본문", null));
+            indexer.onDeleted(new PostEvents.Deleted(2));
+            return stale;
+        });
+
+        // when
+        indexer.rebuild();
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.candidates("코틀린")).containsExactly(1);
+        assertThat(index.candidates("스프링")).isEmpty();
+        assertThat(index.candidates("자바")).isEmpty();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ktb.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostingListTest {
+
+    @DisplayName("순서와 무관하게 추가해도 정렬 유지, 중복은 한 번만")
+    @Test
+    void add_keepsSortedAndUnique() {
+        // given
+        PostingList list = new PostingList("t");
+
+        // when
+        for (int id : new int[]{ 9, 3, 7, 3, 1, 12, 5 }) list.add(id);
+
+        // then
+        assertThat(list.toArray()).containsExactly(1, 3, 5, 7, 9, 12);
+        assertThat(list.size()).isEqualTo(6);
+    }
+
+    @DisplayName("삭제 - 없는 id는 무시, 많이 줄면 배열을 줄여도 내용 유지")
+    @Test
+    void remove_shrinks() {
+        // given
+        PostingList list = new PostingList("t");
+        for (int id = 1; id <= 100; id++) list.add(id);
+
+        // when
+        list.remove(1000);
+        for (int id = 1; id <= 95; id++) list.remove(id);
+
+        // then
+        assertThat(list.toArray()).containsExactly(96, 97, 98, 99, 100);
+        list.add(1);
+        assertThat(list.toArray()).containsExactly(1, 96, 97, 98, 99, 100);
+    }
+
+    @DisplayName("정렬된 후보 배열과의 교집합")
+    @Test
+    void intersect() {
+        // given
+        PostingList list = new PostingList("t");
+        for (int id : new int[]{ 2, 4, 6, 8, 10 }) list.add(id);
+
+        // when / then
+        assertThat(list.intersect(new int[]{ 1, 2, 3, 8, 11 })).containsExactly(2, 8);
+        assertThat(list.intersect(new int[]{ 1, 3 })).isEmpty();
+        assertThat(list.intersect(new int[0])).isEmpty();
+    }
+}
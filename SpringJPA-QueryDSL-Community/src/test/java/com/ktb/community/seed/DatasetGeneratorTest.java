@@ -0,0 +1,104 @@
+package com.ktb.community.seed;
+
+import com.ktb.community.seed.DatasetGenerator.Plan;
+import com.ktb.community.seed.DatasetGenerator.Result;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 합성 데이터 적재 - 비정규화 카운터 정합성, seed 결정성
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "seed.chunk-rows=100", "seed.rows-per-insert=30", "seed.threads=4"
+})
+class DatasetGeneratorTest {
+
+    private static final Plan PLAN = new Plan(60, 300, 1500, 12, 3, 1.1, 7L, 30, LocalDateTime.of(2024, 10, 1, 0, 0));
+
+    @Autowired DatasetGenerator generator;
+    @Autowired JdbcTemplate jdbc;
+
+    @DisplayName("적재 후 like_count/comment_count/image_count/thumbnail_url이 실제 행과 일치")
+    @Test
+    void generate_countersMatchRows() {
+        // when
+        Result r = generator.generate(PLAN);
+
+        // then
+        int from = r.firstPostId(), to = r.firstPostId() + PLAN.posts() - 1;
+        assertThat(r.users()).isEqualTo(60);
+        assertThat(r.posts()).isEqualTo(300);
+        assertThat(r.comments()).isEqualTo(1500);
+        assertThat(r.likes()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE post_id BETWEEN ? AND ?", from, to)).isEqualTo(300);
+        assertThat(count("SELECT COUNT(*) FROM post_likes WHERE post_id BETWEEN ? AND ?", from, to)).isEqualTo(r.likes());
+        assertThat(count("SELECT COUNT(*) FROM post_images WHERE post_id BETWEEN ? AND ?", from, to)).isEqualTo(r.images());
+
+        assertThat(count("""
+                SELECT COUNT(*) FROM posts p
+                 WHERE p.post_id BETWEEN ? AND ?
+                   AND (p.like_count <> (SELECT COUNT(*) FROM post_likes l WHERE l.post_id = p.post_id)
+                     OR p.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.is_deleted = FALSE)
+                     OR p.image_count <> (SELECT COUNT(*) FROM post_images i WHERE i.post_id = p.post_id)
+                     OR COALESCE(p.thumbnail_url, '') <> COALESCE((SELECT i.image_url FROM post_images i
+                                                                    WHERE i.post_id = p.post_id AND i.sort_order = 1), ''))""",
+                from, to)).isZero();
+
+        // 좋아요는 소수 게시글에 몰린다
+        long maxLikes = count("SELECT MAX(like_count) FROM posts WHERE post_id BETWEEN ? AND ?", from, to);
+        assertThat(maxLikes).isGreaterThan(5 * r.likes() / PLAN.posts());
+    }
+
+    @DisplayName("댓글/좋아요 시각은 게시글 작성 이후이고 until을 넘지 않는다")
+    @Test
+    void generate_activityWithinPostAndUntil() {
+        // when
+        Result r = generator.generate(PLAN);
+
+        // then
+        int from = r.firstPostId(), to = r.firstPostId() + PLAN.posts() - 1;
+        assertThat(count("""
+                SELECT COUNT(*) FROM comments c JOIN posts p ON p.post_id = c.post_id
+                 WHERE p.post_id BETWEEN ? AND ? AND (c.published_at < p.published_at OR c.published_at > ?)""",
+                from, to, PLAN.until())).isZero();
+        assertThat(count("""
+                SELECT COUNT(*) FROM post_likes l JOIN posts p ON p.post_id = l.post_id
+                 WHERE p.post_id BETWEEN ? AND ? AND (l.created_at < p.published_at OR l.created_at > ?)""",
+                from, to, PLAN.until())).isZero();
+    }
+
+    @DisplayName("같은 seed로 두 번 적재 → id 구간만 다르고 내용은 같다")
+    @Test
+    void generate_sameSeedSameData() {
+        // when
+        Result first = generator.generate(PLAN);
+        Result second = generator.generate(PLAN);
+
+        // then
+        assertThat(second.firstPostId()).isGreaterThanOrEqualTo(first.firstPostId() + PLAN.posts());
+        assertThat(second.likes()).isEqualTo(first.likes());
+        assertThat(snapshot(second.firstPostId())).isEqualTo(snapshot(first.firstPostId()));
+    }
+
+    private List<String> snapshot(int firstPostId) {
+        return jdbc.query("""
+                SELECT title, published_at, view_count, like_count, comment_count, image_count FROM posts
+                 WHERE post_id BETWEEN ? AND ? ORDER BY post_id""",
+                (rs, n) -> rs.getString(1) + "|" + rs.getTimestamp(2) + "|" + rs.getInt(3) + "|" + rs.getInt(4)
+                        + "|" + rs.getInt(5) + "|" + rs.getInt(6),
+                firstPostId, firstPostId + PLAN.posts() - 1);
+    }
+
+    private long count(String sql, Object... args) {
+        Long n = jdbc.queryForObject(sql, Long.class, args);
+        return n == null ? 0 : n;
+    }
+}
@@ -0,0 +1,112 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Comment;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.CommentDtos.CreateCommentRequest;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 댓글 수 동시성 - 여러 스레드가 동시에 댓글을 작성/삭제해도 comment_count 갱신이 유실되지 않는다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class CommentCountConcurrencyTest {
+
+    @Autowired CommentService commentService;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired JdbcTemplate jdbc;
+
+    @DisplayName("댓글 1,000개 동시 작성 → 1000, 그중 절반 동시 삭제 → 500")
+    @Test
+    void parallelComments_noLostUpdates() throws Exception {
+        // given
+        List<Integer> userIds = new ArrayList<>();
+        for (int n = 0; n < 20; n++) {
+            User u = new User();
+            u.setNickname("writer" + n); u.setEmail("writer" + n + "@test.com"); u.setPassword("pass1234");
+            userIds.add(users.save(u).getId());
+        }
+        Post p = new Post();
+        p.setAuthor(users.findById(userIds.get(0)).orElseThrow());
+        p.setTitle("댓글 많은 글"); p.setContent("본문");
+        Integer postId = posts.save(p).getId();
+
+        // when: 1,000개 동시 작성
+        List<int[]> created = Collections.synchronizedList(new ArrayList<>());
+        hammer(1000, n -> {
+            Integer uid = userIds.get(n % userIds.size());
+            Comment c = commentService.create(uid, postId, new CreateCommentRequest("댓글 " + n));
+            created.add(new int[]{ uid, c.getId() });
+        });
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getCommentCount()).isEqualTo(1000);
+        assertThat(activeComments(postId)).isEqualTo(1000);
+
+        // when: 절반 동시 삭제
+        hammer(500, n -> commentService.softDelete(created.get(n)[0], created.get(n)[1]));
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getCommentCount()).isEqualTo(500);
+        assertThat(activeComments(postId)).isEqualTo(500);
+    }
+
+    @DisplayName("같은 댓글을 여러 스레드가 동시에 삭제해도 comment_count는 한 번만 줄어든다")
+    @Test
+    void concurrentDeletesOfSameComment_decrementOnce() throws Exception {
+        // given
+        User u = new User();
+        u.setNickname("deleter"); u.setEmail("deleter@test.com"); u.setPassword("pass1234");
+        Integer uid = users.save(u).getId();
+        Post p = new Post();
+        p.setAuthor(users.findById(uid).orElseThrow());
+        p.setTitle("삭제 경쟁"); p.setContent("본문");
+        Integer postId = posts.save(p).getId();
+        Integer keep = commentService.create(uid, postId, new CreateCommentRequest("남는 댓글")).getId();
+        Integer target = commentService.create(uid, postId, new CreateCommentRequest("지울 댓글")).getId();
+
+        // when: 32번 동시 삭제
+        hammer(32, n -> commentService.softDelete(uid, target));
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getCommentCount()).isEqualTo(1);
+        assertThat(activeComments(postId)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT comment_id FROM comments WHERE post_id = ? AND is_deleted = FALSE", Integer.class, postId))
+                .isEqualTo(keep);
+    }
+
+    private int activeComments(Integer postId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM comments WHERE post_id = ? AND is_deleted = FALSE", Integer.class, postId);
+    }
+
+    private void hammer(int times, java.util.function.IntConsumer action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int n = 0; n < times; n++) {
+            int i = n;
+            futures.add(pool.submit(() -> {
+                start.await();
+                action.accept(i);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,165 @@
+package com.ktb.community.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ktb.community.domain.Comment;
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.CommentDtos.CommentItem;
+import com.ktb.community.dto.CommentDtos.CreateCommentRequest;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.exception.ApiException;
+import com.ktb.community.exception.ErrorCode;
+import com.ktb.community.repository.CommentRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.util.CursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 댓글 목록 커서 페이지 - 테스트마다 새 게시글을 만들어 분리
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class CommentCursorPaginationTest {
+
+    @Autowired CommentService commentService;
+    @Autowired CommentRepository comments;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired ObjectMapper mapper;
+
+    @DisplayName("작성 시각이 같은 댓글은 id 오름차순으로 빠짐/중복 없이 이어지고, 마지막 페이지는 hasNext=false")
+    @Test
+    void cursor_tieBreaksByIdAndEndsOnLastPage() {
+        // given
+        Post post = newPost();
+        LocalDateTime same = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Integer> expected = new ArrayList<>();
+        for (int n = 0; n < 5; n++) expected.add(save(post, same));
+
+        // when
+        CursorPage<CommentItem> first = commentService.list(post.getId(), null, 2);
+        CursorPage<CommentItem> second = commentService.list(post.getId(), first.getNextCursor(), 2);
+        CursorPage<CommentItem> last = commentService.list(post.getId(), second.getNextCursor(), 2);
+
+        // then
+        List<Integer> seen = new ArrayList<>();
+        for (CursorPage<CommentItem> p : List.of(first, second, last)) p.getContent().forEach(c -> seen.add(c.id()));
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @DisplayName("작성 시각 순으로 정렬되고, 정확히 size개 남은 마지막 페이지도 hasNext=false")
+    @Test
+    void cursor_ordersByPublishedAtAndExactLastPageHasNoNext() {
+        // given
+        Post post = newPost();
+        Integer later = save(post, LocalDateTime.of(2026, 1, 2, 12, 0));
+        Integer earlier = save(post, LocalDateTime.of(2026, 1, 1, 12, 0));
+
+        // when
+        CursorPage<CommentItem> page = commentService.list(post.getId(), "", 2);
+
+        // then
+        assertThat(page.getContent()).extracting(CommentItem::id).containsExactly(earlier, later);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @DisplayName("limit은 1~100으로 제한되고 없으면 50")
+    @Test
+    void list_clampsLimit() {
+        // given
+        Post post = newPost();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int n = 0; n < CommentService.MAX_LIMIT + 1; n++) save(post, base.plusMinutes(n));
+
+        // when, then
+        assertThat(commentService.list(post.getId(), null, null).getContent()).hasSize(CommentService.DEFAULT_LIMIT);
+        assertThat(commentService.list(post.getId(), null, 1000).getContent()).hasSize(CommentService.MAX_LIMIT);
+        assertThat(commentService.list(post.getId(), null, 0).getContent()).hasSize(1);
+        assertThat(commentService.list(post.getId(), null, -5).getContent()).hasSize(1);
+    }
+
+    @DisplayName("형식이 잘못된 커서는 400(invalid_cursor)")
+    @Test
+    void list_malformedCursor() {
+        // given
+        Integer postId = newPost().getId();
+
+        // when, then
+        for (String bad : List.of("%%%", CursorCodec.encode("only-one-part"), CursorCodec.encode("not-a-date", "1"),
+                CursorCodec.encode("2026-01-01T12:00", "abc"))) {
+            assertThatThrownBy(() -> commentService.list(postId, bad, 10))
+                    .isInstanceOf(ApiException.class)
+                    .hasMessageContaining("invalid_cursor")
+                    .extracting(e -> ((ApiException) e).getErrorCode()).isEqualTo(ErrorCode.VALIDATION_ERROR);
+        }
+    }
+
+    @DisplayName("total_count는 게시글의 comment_count, 삭제된 게시글은 404(post_not_found)")
+    @Test
+    void list_totalFromCommentCountAndDeletedPostNotFound() {
+        // given
+        Post post = newPost();
+        commentService.create(post.getAuthor().getId(), post.getId(), new CreateCommentRequest("댓글"));
+
+        // when, then
+        assertThat(commentService.list(post.getId(), null, 10).getTotalCount()).isEqualTo(1L);
+
+        post.setDeleted(true);
+        posts.save(post);
+        assertThatThrownBy(() -> commentService.list(post.getId(), null, 10))
+                .isInstanceOf(ApiException.class)
+                .hasMessageContaining("post_not_found");
+    }
+
+    @DisplayName("목록 항목(CommentItem)의 JSON은 Comment 엔티티 직렬화와 같되 작성자 email은 없다")
+    @Test
+    void list_itemJsonMatchesEntityWithoutEmail() {
+        // given
+        Post post = newPost();
+        save(post, LocalDateTime.of(2026, 1, 1, 12, 0));
+        Comment entity = comments.findActiveByPostId(post.getId(), null, 10).getContent().get(0);
+
+        // when
+        CommentItem item = commentService.list(post.getId(), null, 10).getContent().get(0);
+
+        // then
+        JsonNode expected = mapper.valueToTree(entity);
+        ((ObjectNode) expected.get("author")).remove("email");
+        JsonNode actual = mapper.valueToTree(item);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get("author").has("email")).isFalse();
+    }
+
+    private Post newPost() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User u = new User();
+        u.setNickname("c" + tag); u.setEmail(tag + "@comment.test"); u.setPassword("pass1234");
+        Post p = new Post();
+        p.setAuthor(users.save(u));
+        p.setTitle("댓글 페이지"); p.setContent("본문");
+        return posts.save(p);
+    }
+
+    private Integer save(Post post, LocalDateTime publishedAt) {
+        Comment c = new Comment();
+        c.setPost(post); c.setAuthor(post.getAuthor()); c.setContent("댓글");
+        c.setPublishedAt(publishedAt);
+        return comments.save(c).getId();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 좋아요 비트맵 색인 - 지연 적재 후 좋아요/취소 커밋이 색인에 반영된다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "likes.index.enabled=true")
+class LikedPostIndexTest {
+
+    @Autowired PostService postService;
+    @Autowired LikedPostIndex index;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+
+    @DisplayName("적재 전 좋아요는 DB에서 읽고, 적재 후 토글은 이벤트로 반영")
+    @Test
+    void toggles_stayInSyncAfterLazyLoad() {
+        User u = new User();
+        u.setNickname("bitmap"); u.setEmail("bitmap@test.com"); u.setPassword("pass1234");
+        Integer userId = users.save(u).getId();
+        Integer a = newPost(u, "a"), b = newPost(u, "b"), c = newPost(u, "c");
+
+        // 적재 전 좋아요 → 첫 조회 때 post_likes에서 적재
+        postService.like(userId, a);
+        assertThat(index.isLiked(userId, a)).isTrue();
+        assertThat(index.isLiked(userId, b)).isFalse();
+
+        // 적재 후 좋아요/취소 → 커밋 이벤트로 갱신
+        postService.like(userId, b);
+        postService.like(userId, a);
+        postService.unlike(userId, c);
+        assertThat(index.likedAmong(userId, List.of(a, b, c))).containsExactly(b);
+    }
+
+    private Integer newPost(User author, String title) {
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle(title); p.setContent("본문");
+        return posts.save(p).getId();
+    }
+}
@@ -0,0 +1,70 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.CreatePostRequest;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.dto.PostDtos.UpdatePostRequest;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * image_count/thumbnail_url 비정규화 - 작성/수정 시 유지되고, 기존 행은 백필로 채워진다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "posts.backfill.chunk-size=2")
+class PostColumnBackfillTest {
+
+    @Autowired PostService postService;
+    @Autowired PostColumnBackfill backfill;
+    @Autowired UserRepository users;
+    @Autowired JdbcTemplate jdbc;
+
+    @DisplayName("hasImage 필터/썸네일은 비정규화 컬럼 기준, 비워진 컬럼은 구간 백필로 복구")
+    @Test
+    void imageStats_maintainedAndBackfilled() {
+        // given
+        User u = new User();
+        u.setNickname("gallery"); u.setEmail("gallery@test.com"); u.setPassword("pass1234");
+        Integer authorId = users.save(u).getId();
+        Integer plain = postService.create(authorId, new CreatePostRequest("글", "본문", null)).getId();
+        Integer withImages = postService.create(authorId, new CreatePostRequest("사진", "본문   사진",
+                "https://img/a.jpg, https://img/b.jpg")).getId();
+        Integer updated = postService.create(authorId, new CreatePostRequest("나중에", "본문", "")).getId();
+        postService.update(authorId, updated, new UpdatePostRequest(null, null, "https://img/c.jpg"));
+
+        // then: 작성/수정 시 유지
+        assertThat(withImageIds(authorId)).containsExactly(updated, withImages);
+        assertThat(thumbnails(authorId)).containsExactly("https://img/c.jpg", "https://img/a.jpg", null);
+
+        // given: 컬럼 추가 직후의 기존 행처럼 비워 둔다
+        jdbc.update("UPDATE posts SET image_count = 0, thumbnail_url = NULL, excerpt = NULL WHERE user_id = ?", authorId);
+        assertThat(withImageIds(authorId)).isEmpty();
+
+        // when
+        backfill.run();
+
+        // then
+        assertThat(withImageIds(authorId)).containsExactly(updated, withImages);
+        assertThat(thumbnails(authorId)).containsExactly("https://img/c.jpg", "https://img/a.jpg", null);
+        assertThat(jdbc.queryForObject("SELECT image_count FROM posts WHERE post_id = ?", Integer.class, withImages)).isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT excerpt FROM posts WHERE post_id = ?", String.class, withImages)).isEqualTo("본문 사진");
+        assertThat(jdbc.queryForObject("SELECT excerpt FROM posts WHERE post_id = ?", String.class, plain)).isEqualTo("본문");
+    }
+
+    private List<Integer> withImageIds(Integer authorId) {
+        return postService.searchByCursor(null, null, authorId, true, null, null, null, 10, "LATEST", false)
+                .getContent().stream().map(PostSummary::id).toList();
+    }
+
+    private List<String> thumbnails(Integer authorId) {
+        return postService.searchByCursor(null, null, authorId, null, null, null, null, 10, "LATEST", false)
+                .getContent().stream().map(PostSummary::thumbnailUrl).toList();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.CommentDtos.CreateCommentRequest;
+import com.ktb.community.dto.PostDtos.UpdatePostRequest;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 수정/삭제 중 카운터 유실 - 게시글을 읽은 뒤 다른 트랜잭션이 카운터를 올려도
+ * 엔티티 저장이 읽어 둔 값으로 덮어쓰지 않는다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostCounterOverwriteTest {
+
+    @Autowired PostService postService;
+    @Autowired CommentService commentService;
+    @Autowired ViewCountBuffer viewCounts;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired PlatformTransactionManager txManager;
+
+    @DisplayName("게시글을 읽은 뒤 버퍼 조회수가 반영되어도 수정 저장 후 view_count가 유지된다")
+    @Test
+    void update_afterViewFlush_keepsFlushedViews() throws Exception {
+        // given
+        User author = user("editor");
+        Integer postId = post(author);
+        viewCounts.increment(postId);
+        viewCounts.increment(postId);
+        viewCounts.increment(postId);
+
+        // when: 게시글을 읽고 → 다른 스레드에서 조회수 반영 → 같은 트랜잭션에서 수정
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            posts.findActiveById(postId).orElseThrow();
+            inOtherThread(viewCounts::flush);
+            postService.update(author.getId(), postId, new UpdatePostRequest("수정된 제목", null, null));
+        });
+
+        // then
+        Post saved = posts.findById(postId).orElseThrow();
+        assertThat(saved.getTitle()).isEqualTo("수정된 제목");
+        assertThat(saved.getViewCount()).isEqualTo(3);
+    }
+
+    @DisplayName("게시글을 읽은 뒤 버퍼 조회수가 반영되어도 삭제 저장 후 view_count가 유지된다")
+    @Test
+    void softDelete_afterViewFlush_keepsFlushedViews() throws Exception {
+        // given
+        User author = user("remover");
+        Integer postId = post(author);
+        viewCounts.increment(postId);
+
+        // when
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            posts.findActiveById(postId).orElseThrow();
+            inOtherThread(viewCounts::flush);
+            postService.softDelete(author.getId(), postId);
+        });
+
+        // then
+        Post saved = posts.findById(postId).orElseThrow();
+        assertThat(saved.isDeleted()).isTrue();
+        assertThat(saved.getViewCount()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글을 읽은 뒤 다른 요청이 댓글을 달아도 수정 저장 후 comment_count가 유지된다")
+    @Test
+    void update_afterCommentCreated_keepsCommentCount() throws Exception {
+        // given
+        User author = user("writer");
+        User commenter = user("commenter");
+        Integer postId = post(author);
+        commentService.create(commenter.getId(), postId, new CreateCommentRequest("먼저 단 댓글"));
+
+        // when: 게시글을 읽고 → 다른 스레드에서 댓글 작성 → 같은 트랜잭션에서 수정
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            posts.findActiveById(postId).orElseThrow();
+            inOtherThread(() -> commentService.create(commenter.getId(), postId, new CreateCommentRequest("수정 중 댓글")));
+            postService.update(author.getId(), postId, new UpdatePostRequest(null, "수정된 본문", null));
+        });
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getCommentCount()).isEqualTo(2);
+    }
+
+    @DisplayName("게시글을 읽은 뒤 다른 요청이 좋아요를 눌러도 삭제 저장 후 like_count가 유지된다")
+    @Test
+    void softDelete_afterLike_keepsLikeCount() throws Exception {
+        // given
+        User author = user("owner");
+        User fan = user("fan");
+        Integer postId = post(author);
+
+        // when
+        new TransactionTemplate(txManager).executeWithoutResult(s -> {
+            posts.findActiveById(postId).orElseThrow();
+            inOtherThread(() -> postService.like(fan.getId(), postId));
+            postService.softDelete(author.getId(), postId);
+        });
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getLikeCount()).isEqualTo(1);
+    }
+
+    private User user(String nickname) {
+        User u = new User();
+        u.setNickname(nickname); u.setEmail(nickname + "@test.com"); u.setPassword("pass1234");
+        return users.save(u);
+    }
+
+    private Integer post(User author) {
+        Post p = new Post();
+        p.setAuthor(author); p.setTitle("원래 제목"); p.setContent("본문");
+        return posts.save(p).getId();
+    }
+
+    /** 별도 트랜잭션(다른 스레드)에서 실행하고 커밋까지 기다린다 */
+    private static void inOtherThread(Runnable action) {
+        try {
+            CompletableFuture.runAsync(action).get(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.CreatePostRequest;
+import com.ktb.community.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 미리 예약한 id로 INSERT를 배치 전송 - 이미지 수와 무관하게 문장 준비 횟수가 일정
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostCreateBatchingTest {
+
+    @Autowired PostService postService;
+    @Autowired UserRepository users;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EntityManagerFactory emf;
+
+    @DisplayName("이미지 10장 게시글 작성 → 작성자 조회 1 + 게시글 INSERT 1 + 이미지 INSERT 배치 1")
+    @Test
+    void create_insertsImagesAsOneBatch() {
+        // given
+        User u = new User();
+        u.setNickname("batch"); u.setEmail("batch@test.com"); u.setPassword("pass1234");
+        Integer authorId = users.save(u).getId();
+        String urls = IntStream.rangeClosed(1, 10).mapToObj(n -> "https://img/" + n).collect(Collectors.joining(","));
+        postService.create(authorId, new CreatePostRequest("워밍업", "본문", urls)); // 첫 id 구간 예약
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // when
+        Integer postId = postService.create(authorId, new CreatePostRequest("배치", "본문", urls)).getId();
+
+        // then
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(jdbc.queryForList("SELECT sort_order FROM post_images WHERE post_id = ? ORDER BY sort_order", Integer.class, postId))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+}
@@ -0,0 +1,128 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.CursorPage;
+import com.ktb.community.dto.PostDtos.PostSummary;
+import com.ktb.community.exception.ApiException;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import com.ktb.community.util.CursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 목록 커서/오프셋 페이지 - 작성자 필터로 다른 테스트의 게시글과 분리
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostCursorPaginationTest {
+
+    @Autowired PostService postService;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+
+    @DisplayName("작성 시각이 같은 게시글은 id 내림차순으로 이어지고, 마지막 페이지는 hasNext=false")
+    @Test
+    void cursor_tieBreaksByIdAndEndsOnLastPage() {
+        // given
+        Integer authorId = newAuthor();
+        LocalDateTime same = LocalDateTime.of(2026, 1, 1, 12, 0);
+        List<Integer> ids = new ArrayList<>();
+        for (int n = 0; n < 5; n++) ids.add(save(authorId, same));
+        List<Integer> expected = ids.stream().sorted((a, b) -> b - a).toList();
+
+        // when
+        CursorPage<PostSummary> first = page(authorId, "", 2);
+        CursorPage<PostSummary> second = page(authorId, first.getNextCursor(), 2);
+        CursorPage<PostSummary> last = page(authorId, second.getNextCursor(), 2);
+
+        // then
+        List<Integer> seen = new ArrayList<>();
+        for (CursorPage<PostSummary> p : List.of(first, second, last)) p.getContent().forEach(s -> seen.add(s.id()));
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @DisplayName("정확히 size개 남은 마지막 페이지도 hasNext=false")
+    @Test
+    void cursor_exactlyFullLastPageHasNoNext() {
+        // given
+        Integer authorId = newAuthor();
+        save(authorId, LocalDateTime.of(2026, 1, 1, 12, 0));
+        save(authorId, LocalDateTime.of(2026, 1, 2, 12, 0));
+
+        // when
+        CursorPage<PostSummary> page = page(authorId, "", 2);
+
+        // then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @DisplayName("형식이 틀린 커서, 다른 정렬의 커서, 값이 깨진 커서는 invalid_cursor")
+    @Test
+    void cursor_rejectsInvalidCursor() {
+        // given
+        Integer authorId = newAuthor();
+        String popular = CursorCodec.encode("POPULAR", "3", "10");
+        String broken = CursorCodec.encode("LATEST", "not-a-date", "10");
+
+        // when / then
+        for (String cursor : List.of("%%%", popular, broken)) {
+            assertThatThrownBy(() -> page(authorId, cursor, 10))
+                    .isInstanceOf(ApiException.class).hasMessageContaining("invalid_cursor");
+        }
+    }
+
+    @DisplayName("size는 1..100으로 맞춘다 - 커서/오프셋 모드 모두")
+    @Test
+    void size_isClampedInBothModes() {
+        // given
+        Integer authorId = newAuthor();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int n = 0; n < PostService.MAX_PAGE_SIZE + 5; n++) save(authorId, base.plusMinutes(n));
+
+        // when / then
+        assertThat(page(authorId, "", 0).getContent()).hasSize(1);
+        assertThat(page(authorId, "", -5).getContent()).hasSize(1);
+        CursorPage<PostSummary> big = page(authorId, "", 1000);
+        assertThat(big.getContent()).hasSize(PostService.MAX_PAGE_SIZE);
+        assertThat(big.hasNext()).isTrue();
+
+        assertThat(postService.search(null, null, authorId, null, null, null, 0, 0, "LATEST").getContent()).hasSize(1);
+        assertThat(postService.search(null, null, authorId, null, null, null, -1, 1000, "LATEST").getContent())
+                .hasSize(PostService.MAX_PAGE_SIZE);
+    }
+
+    private CursorPage<PostSummary> page(Integer authorId, String cursor, int size) {
+        return postService.searchByCursor(null, null, authorId, null, null, null, cursor, size, "LATEST", false);
+    }
+
+    private Integer newAuthor() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User u = new User();
+        u.setNickname("c" + tag); u.setEmail(tag + "@cursor.test"); u.setPassword("pass1234");
+        return users.save(u).getId();
+    }
+
+    private Integer save(Integer authorId, LocalDateTime publishedAt) {
+        Post p = new Post();
+        p.setAuthor(users.findById(authorId).orElseThrow());
+        p.setTitle("커서"); p.setContent("본문");
+        p.setPublishedAt(publishedAt);
+        return posts.save(p).getId();
+    }
+}
@@ -0,0 +1,63 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.CommentDtos.CreateCommentRequest;
+import com.ktb.community.dto.PostDtos.PostDetail;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 상세 캐시 - 재조회는 SQL 없이 응답하고, 조회수/좋아요는 덧씌우며, 댓글 변경은 무효화
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostDetailCacheTest {
+
+    @Autowired PostService postService;
+    @Autowired CommentService commentService;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired EntityManagerFactory emf;
+
+    @DisplayName("캐시 적중 시 SQL 0회, 조회수/좋아요는 실시간 반영, 댓글 작성 후에는 다시 적재")
+    @Test
+    void detail_servedFromCacheWithLiveCounters() {
+        User u = new User();
+        u.setNickname("cache"); u.setEmail("cache@test.com"); u.setPassword("pass1234");
+        Integer userId = users.save(u).getId();
+        Post p = new Post();
+        p.setAuthor(u); p.setTitle("캐시"); p.setContent("본문");
+        Integer postId = posts.save(p).getId();
+
+        PostDetail first = postService.detail(null, postId, true);
+        assertThat(first.viewCount()).isEqualTo(1);
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        PostDetail second = postService.detail(null, postId, true);
+        assertThat(stats.getPrepareStatementCount()).isZero();
+        assertThat(second.viewCount()).isEqualTo(2);
+
+        postService.like(userId, postId);
+        stats.clear();
+        PostDetail liked = postService.detail(userId, postId, false);
+        assertThat(liked.likeCount()).isEqualTo(1);
+        assertThat(liked.isLiked()).isTrue();
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1); // 조회자별 좋아요 여부만
+
+        commentService.create(userId, postId, new CreateCommentRequest("댓글"));
+        PostDetail afterComment = postService.detail(null, postId, false);
+        assertThat(afterComment.commentCount()).isEqualTo(1);
+        assertThat(afterComment.likeCount()).isEqualTo(1);
+        assertThat(afterComment.viewCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.PostImage;
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.PostDetail;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 같은 게시글 상세를 동시에 500번 요청해도 DB 조회는 한 번
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostDetailCoalescingTest {
+
+    @Autowired PostService postService;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired EntityManagerFactory emf;
+
+    @DisplayName("동시 상세 조회 500건 → SQL 1회, 모두 같은 내용(이미지 순서 포함)")
+    @Test
+    void concurrentDetail_singleStatement() throws Exception {
+        // given
+        User u = new User();
+        u.setNickname("hot"); u.setEmail("hot@test.com"); u.setPassword("pass1234");
+        users.save(u);
+        Post p = new Post();
+        p.setAuthor(u); p.setTitle("인기"); p.setContent("본문");
+        for (int n = 2; n >= 0; n--) {
+            PostImage img = new PostImage();
+            img.setPost(p); img.setImageUrl("https://img/" + n); img.setSortOrder(n);
+            p.getImages().add(img);
+        }
+        Integer postId = posts.save(p).getId();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // when
+        ExecutorService pool = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PostDetail>> futures = new ArrayList<>();
+        for (int n = 0; n < 500; n++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return postService.detail(null, postId, false);
+            }));
+        }
+        start.countDown();
+        List<PostDetail> results = new ArrayList<>();
+        for (Future<PostDetail> f : futures) results.add(f.get(30, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        // then
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(results).allSatisfy(d -> {
+            assertThat(d.id()).isEqualTo(postId);
+            assertThat(d.images()).extracting(i -> i.sortOrder()).containsExactly(0, 1, 2);
+        });
+    }
+}
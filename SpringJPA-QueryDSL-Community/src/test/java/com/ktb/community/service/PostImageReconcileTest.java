@@ -0,0 +1,70 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.User;
+import com.ktb.community.dto.PostDtos.CreatePostRequest;
+import com.ktb.community.dto.PostDtos.UpdatePostRequest;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게시글 수정 시 이미지 목록은 차이만 반영 - 유지/이동된 이미지는 image_id가 그대로
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostImageReconcileTest {
+
+    @Autowired PostService postService;
+    @Autowired UserRepository users;
+    @Autowired JdbcTemplate jdbc;
+
+    @DisplayName("같은 URL 재전송은 변경 없음, 순서 변경/삭제/추가는 해당 행만 반영")
+    @Test
+    void update_reconcilesImagesByDiff() {
+        // given
+        User u = new User();
+        u.setNickname("diff"); u.setEmail("diff@test.com"); u.setPassword("pass1234");
+        Integer authorId = users.save(u).getId();
+        Integer postId = postService.create(authorId, new CreatePostRequest("제목", "본문", "a,b,c,d")).getId();
+        Map<String, Integer> ids = imageIds(postId);
+        Integer maxId = jdbc.queryForObject("SELECT MAX(image_id) FROM post_images", Integer.class);
+
+        // when: 제목만 바꾸고 같은 목록을 다시 보냄
+        postService.update(authorId, postId, new UpdatePostRequest("새 제목", null, "a, b, c, d"));
+
+        // then
+        assertThat(imageIds(postId)).isEqualTo(ids);
+        assertThat(jdbc.queryForObject("SELECT MAX(image_id) FROM post_images", Integer.class)).isEqualTo(maxId);
+
+        // when: b 삭제, d와 a 자리 바꿈, e 추가 (a,b,c,d → d,c,a,e)
+        postService.update(authorId, postId, new UpdatePostRequest(null, null, "d,c,a,e"));
+
+        // then
+        assertThat(urlsInOrder(postId)).containsExactly("d", "c", "a", "e");
+        Map<String, Integer> after = imageIds(postId);
+        assertThat(after.get("a")).isEqualTo(ids.get("a"));
+        assertThat(after.get("c")).isEqualTo(ids.get("c"));
+        assertThat(after.get("d")).isEqualTo(ids.get("d"));
+        assertThat(after.get("e")).isGreaterThan(maxId);
+        assertThat(jdbc.queryForObject("SELECT thumbnail_url FROM posts WHERE post_id = ?", String.class, postId)).isEqualTo("d");
+        assertThat(jdbc.queryForObject("SELECT image_count FROM posts WHERE post_id = ?", Integer.class, postId)).isEqualTo(4);
+    }
+
+    private Map<String, Integer> imageIds(Integer postId) {
+        Map<String, Integer> ids = new java.util.HashMap<>();
+        jdbc.query("SELECT image_url, image_id FROM post_images WHERE post_id = ?",
+                rs -> { ids.put(rs.getString(1), rs.getInt(2)); }, postId);
+        return ids;
+    }
+
+    private List<String> urlsInOrder(Integer postId) {
+        return jdbc.queryForList("SELECT image_url FROM post_images WHERE post_id = ? ORDER BY sort_order", String.class, postId);
+    }
+}
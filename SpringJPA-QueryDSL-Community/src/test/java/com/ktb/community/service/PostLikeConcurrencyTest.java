@@ -0,0 +1,75 @@
+package com.ktb.community.service;
+
+import com.ktb.community.domain.Post;
+import com.ktb.community.domain.User;
+import com.ktb.community.repository.PostLikeRepository;
+import com.ktb.community.repository.PostRepository;
+import com.ktb.community.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 좋아요 토글 동시성 - 한 게시글에 여러 스레드가 동시에 좋아요/취소해도 like_count가 post_likes 행 수와 일치
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PostLikeConcurrencyTest {
+
+    @Autowired PostService postService;
+    @Autowired UserRepository users;
+    @Autowired PostRepository posts;
+    @Autowired PostLikeRepository likes;
+
+    @DisplayName("사용자 200명이 동시에 좋아요 → 200, 그중 절반이 동시에 토글 취소 → 100")
+    @Test
+    void concurrentToggles_keepCountConsistent() throws Exception {
+        // given
+        List<Integer> userIds = new ArrayList<>();
+        for (int n = 0; n < 200; n++) {
+            User u = new User();
+            u.setNickname("user" + n); u.setEmail("user" + n + "@test.com"); u.setPassword("pass1234");
+            userIds.add(users.save(u).getId());
+        }
+        Post p = new Post();
+        p.setAuthor(users.findById(userIds.get(0)).orElseThrow());
+        p.setTitle("인기글"); p.setContent("본문");
+        Integer postId = posts.save(p).getId();
+
+        // when: 전원 동시에 좋아요
+        hammer(userIds, uid -> postService.like(uid, postId));
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getLikeCount()).isEqualTo(200);
+        assertThat(likes.countByPostId(postId)).isEqualTo(200);
+
+        // when: 절반이 동시에 다시 토글(취소)
+        hammer(userIds.subList(0, 100), uid -> postService.like(uid, postId));
+
+        // then
+        assertThat(posts.findById(postId).orElseThrow().getLikeCount()).isEqualTo(100);
+        assertThat(likes.countByPostId(postId)).isEqualTo(100);
+    }
+
+    private void hammer(List<Integer> userIds, java.util.function.Consumer<Integer> action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Integer uid : userIds) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                action.accept(uid);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+    }
+}
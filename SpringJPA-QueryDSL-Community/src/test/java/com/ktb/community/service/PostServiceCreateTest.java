@@ -10,11 +10,13 @@ import com.ktb.community.repository.PostImageRepository;
 import com.ktb.community.repository.PostLikeRepository;
 import com.ktb.community.repository.PostRepository;
 import com.ktb.community.repository.UserRepository;
+import com.ktb.community.trending.TrendingBoard;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension ;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils ;
 
 import java.util.List;
@@ -37,6 +39,11 @@ class PostServiceCreateUnitTest {
     @Mock PostImageRepository postImageRepository;
     // 서비스가 더 많은 빈을 의존한다면 여기서 함께 @Mock 선언해 주세요.
     @Mock PostLikeRepository postLikeRepository;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock ViewCountBuffer viewCountBuffer;
+    @Mock LikedPostIndex likedPostIndex;
+    @Mock TrendingBoard trendingBoard;
+    @Mock PostDetailCache postDetailCache;
 
     @InjectMocks PostService postService;
 
@@ -92,6 +99,7 @@ class PostServiceCreateUnitTest {
         verify(userRepository, times(1)).findById(userId);
         verify(postRepository, times(1)).save(any(Post.class));
         verify(postImageRepository, times(1)).saveAll(imagesCaptor.capture());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
 
         List<PostImage> savedImages = imagesCaptor.getValue();
         assertThat(savedImages).hasSize(2);
@@ -0,0 +1,179 @@
+package com.ktb.community.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트(유닛): S3Service.uploadImageAsync
+ * - S3AsyncClient를 mock으로 대체해 멀티파트 분할/완료/abort 흐름만 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class S3ServiceAsyncUploadTest {
+
+    private static final int PART = (int) S3Service.MIN_PART_SIZE;
+
+    @Mock S3Client s3Client;
+    @Mock S3AsyncClient s3AsyncClient;
+
+    /** part 읽기를 호출 스레드에서 바로 실행 (흐름 검증용) */
+    private S3Service service() {
+        return service(Runnable::run);
+    }
+
+    private S3Service service(Executor partReader) {
+        return new S3Service(s3Client, s3AsyncClient, partReader, "test-bucket", "ap-northeast-2", "", PART, 2);
+    }
+
+    private static MockMultipartFile image(int size) {
+        return new MockMultipartFile("file", "a.png", "image/png", new byte[size]);
+    }
+
+    @DisplayName("part 크기 이하 파일은 단일 PUT")
+    @Test
+    void smallFile_singlePut() {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        String url = service().uploadImageAsync(image(1024)).join();
+
+        assertThat(url).startsWith("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/").endsWith(".png");
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @DisplayName("큰 파일은 part 단위로 나눠 전송 후 번호 순서대로 complete")
+    @Test
+    void largeFile_multipartInOrder() {
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("u1").build()));
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(inv -> CompletableFuture.completedFuture(UploadPartResponse.builder()
+                        .eTag("e" + inv.<UploadPartRequest>getArgument(0).partNumber()).build()));
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        service().uploadImageAsync(image(PART * 2 + 10)).join();
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(3)).uploadPart(parts.capture(), any(AsyncRequestBody.class));
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::contentLength)
+                .containsExactly((long) PART, (long) PART, 10L);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(tuple(1, "e1"), tuple(2, "e2"), tuple(3, "e3"));
+        verify(s3AsyncClient, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @DisplayName("part 전송 실패 시 abort 후 실패로 완료")
+    @Test
+    void partFailure_aborts() {
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("u1").build()));
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        CompletableFuture<String> result = service().uploadImageAsync(image(PART + 1));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasMessageContaining("boom");
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3AsyncClient).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    @DisplayName("업로드 도중 part가 실패하면 새 part를 시작하지 않고, 전송 중인 part가 끝난 뒤에 abort")
+    @Test
+    void partFailureMidUpload_stopsNewPartsAndAbortsAfterInFlight() {
+        // given: part 1은 전송 중으로 남겨 두고 part 2는 바로 실패
+        CompletableFuture<UploadPartResponse> first = new CompletableFuture<>();
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("u1").build()));
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(first)
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        // when
+        CompletableFuture<String> result = service().uploadImageAsync(image(PART * 3 + 1));
+
+        // then: 호출 스레드는 기다리지 않고, 실패 후 part 3/4는 시작하지 않으며 abort는 아직
+        assertThat(result).isNotDone();
+        verify(s3AsyncClient, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(s3AsyncClient, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+        // when: 전송 중이던 part 1 완료
+        first.complete(UploadPartResponse.builder().eTag("e1").build());
+
+        // then
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasMessageContaining("boom");
+        verify(s3AsyncClient).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3AsyncClient, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @DisplayName("part 읽기는 partReader에서만 - part 전송 완료 콜백은 다음 읽기를 예약만 한다")
+    @Test
+    void partReads_runOnReaderNotInCompletionCallback() {
+        // given
+        List<Runnable> reads = new ArrayList<>();
+        CompletableFuture<UploadPartResponse> f1 = new CompletableFuture<>();
+        CompletableFuture<UploadPartResponse> f2 = new CompletableFuture<>();
+        CompletableFuture<UploadPartResponse> f3 = new CompletableFuture<>();
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("u1").build()));
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(f1).thenReturn(f2).thenReturn(f3);
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        // when: 업로드 시작 → 첫 part 읽기는 예약만 된다
+        CompletableFuture<String> result = service(reads::add).uploadImageAsync(image(PART * 2 + 10));
+
+        // then
+        assertThat(reads).hasSize(1);
+        verify(s3AsyncClient, never()).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        // when: part 1, 2 읽기 실행 (동시 전송 2개가 차서 part 3은 아직 예약하지 않음)
+        reads.remove(0).run();
+        reads.remove(0).run();
+
+        // then
+        assertThat(reads).isEmpty();
+        verify(s3AsyncClient, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        // when: part 1 전송 완료 콜백
+        f1.complete(UploadPartResponse.builder().eTag("e1").build());
+
+        // then: 콜백에서는 part 3을 읽지 않고 예약만
+        assertThat(reads).hasSize(1);
+        verify(s3AsyncClient, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        // when
+        reads.remove(0).run();
+        f2.complete(UploadPartResponse.builder().eTag("e2").build());
+        f3.complete(UploadPartResponse.builder().eTag("e3").build());
+
+        // then
+        assertThat(result.join()).contains("/images/");
+        verify(s3AsyncClient, times(3)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(s3AsyncClient).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb.community.service;
+
+import com.ktb.community.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ViewCountBufferTest {
+
+    private final PostRepository posts = mock(PostRepository.class);
+    private final ViewCountBuffer buffer = new ViewCountBuffer(posts, new SimpleMeterRegistry());
+
+    @DisplayName("flush는 누적된 조회수를 게시글별 증분으로 한 번에 반영하고 버퍼를 비운다")
+    @Test
+    void flush_writesDeltasAndClearsBuffer() {
+        // given
+        buffer.increment(1);
+        buffer.increment(1);
+        buffer.increment(2);
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        verify(posts, times(1)).addViewCounts(Map.of(1, 2L, 2, 1L));
+        assertThat(buffer.pending(1)).isZero();
+        assertThat(buffer.pending(2)).isZero();
+    }
+
+    @DisplayName("반영이 실패하면 조회수를 버퍼로 되돌려 다음 flush에서 새 증가분과 함께 반영한다")
+    @Test
+    void flush_failure_retriesOnNextFlush() {
+        // given
+        doThrow(new IllegalStateException("db down")).doNothing().when(posts).addViewCounts(anyMap());
+        buffer.increment(1);
+        buffer.increment(1);
+
+        // when
+        buffer.flush();
+        buffer.increment(1);
+
+        // then
+        assertThat(buffer.pending(1)).isEqualTo(3);
+        buffer.flush();
+        verify(posts).addViewCounts(Map.of(1, 3L));
+        assertThat(buffer.pending(1)).isZero();
+    }
+
+    @DisplayName("반영 중(커밋 전)인 조회수도 pending()에 포함된다")
+    @Test
+    void pending_includesInFlightFlush() throws Exception {
+        // given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(posts).addViewCounts(anyMap());
+        buffer.increment(1);
+        buffer.increment(1);
+
+        // when
+        Thread flusher = Thread.ofVirtual().start(buffer::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        buffer.increment(1);
+
+        // then
+        assertThat(buffer.pending(1)).isEqualTo(3);
+        release.countDown();
+        flusher.join(5_000);
+        assertThat(buffer.pending(1)).isEqualTo(1);
+    }
+
+    @DisplayName("flush와 동시에 증가해도 조회수가 유실되거나 두 번 반영되지 않는다 (유휴 항목 정리 포함)")
+    @Test
+    void increment_concurrentWithFlush_noLostOrDuplicateViews() throws Exception {
+        // given
+        AtomicLong written = new AtomicLong();
+        doAnswer(inv -> {
+            Map<Integer, Long> deltas = inv.getArgument(0);
+            deltas.values().forEach(written::addAndGet);
+            return null;
+        }).when(posts).addViewCounts(anyMap());
+        int threads = 8, perThread = 20_000;
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when: 게시글 몇 개에 몰아서 증가하는 동안 계속 flush
+        for (int t = 0; t < threads; t++) {
+            Thread.ofVirtual().start(() -> {
+                for (int n = 0; n < perThread; n++) buffer.increment(n % 3);
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) buffer.flush();
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        assertThat(written.get()).isEqualTo((long) threads * perThread);
+        assertThat(buffer.pending(0) + buffer.pending(1) + buffer.pending(2)).isZero();
+    }
+
+    @DisplayName("종료 시 남은 조회수를 반영한다")
+    @Test
+    void flushOnShutdown_drainsBuffer() {
+        // given
+        buffer.increment(7);
+
+        // when
+        buffer.flushOnShutdown();
+
+        // then
+        verify(posts).addViewCounts(Map.of(7, 1L));
+        assertThat(buffer.pending(7)).isZero();
+    }
+
+    @DisplayName("비어 있으면 DB에 접근하지 않는다")
+    @Test
+    void flush_emptyBuffer_skipsWrite() {
+        // when
+        buffer.flush();
+
+        // then
+        verifyNoInteractions(posts);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ktb.community.trending;
+
+import com.ktb.community.event.CommentEvents;
+import com.ktb.community.event.PostEvents;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TrendingBoardTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final TrendingBoard board = new TrendingBoard(180, 5, 60, 2, 100, 3, 5, 1, clock);
+
+    @DisplayName("가중합 순으로 상위 K개만 남기고, 삭제된 게시글은 즉시 빠진다")
+    @Test
+    void refresh_keepsTopKByWeightedScore() {
+        for (int i = 0; i < 10; i++) board.onViewed(new PostEvents.Viewed(1));             // 10
+        for (int i = 0; i < 3; i++) board.onLikeChanged(new PostEvents.LikeChanged(i, 2, true)); // 9
+        for (int i = 0; i < 4; i++) board.onCommentCreated(new CommentEvents.Created(3, i));     // 20
+        board.onCommentDeleted(new CommentEvents.Deleted(3, 0));                                 // 15
+
+        board.refresh();
+        assertThat(board.top(10)).extracting(TrendingBoard.Entry::postId).containsExactly(3, 1);
+
+        board.onPostDeleted(new PostEvents.Deleted(3));
+        assertThat(board.top(10)).extracting(TrendingBoard.Entry::postId).containsExactly(1);
+    }
+
+    @DisplayName("활동 없는 게시글의 취소 이벤트는 무시")
+    @Test
+    void negativeDelta_withoutWindow_isIgnored() {
+        board.onLikeChanged(new PostEvents.LikeChanged(1, 7, false));
+        board.refresh();
+        assertThat(board.top(10)).isEmpty();
+    }
+
+    @DisplayName("반감기만큼 지나면 점수가 절반, 창(180분)을 벗어나면 게시글 추적을 정리한다")
+    @Test
+    void refresh_decaysAndExpiresByClock() {
+        // given
+        for (int i = 0; i < 10; i++) board.onViewed(new PostEvents.Viewed(1));
+
+        // when: 60분 경과
+        clock.advance(Duration.ofMinutes(60));
+        board.refresh();
+
+        // then
+        assertThat(board.top(10)).singleElement().satisfies(e -> assertThat(e.score()).isCloseTo(5.0, within(1e-9)));
+
+        // when: 마지막 활동 후 180분 경과
+        clock.advance(Duration.ofMinutes(120));
+        board.refresh();
+
+        // then
+        assertThat(board.top(10)).isEmpty();
+        assertThat(board.trackedPosts()).isZero();
+    }
+
+    @DisplayName("정리 직전에 새 활동이 기록된 게시글은 창이 새로 시작되어 활동이 유지된다")
+    @Test
+    void record_afterExpiry_startsFreshWindow() {
+        // given
+        board.onViewed(new PostEvents.Viewed(1));
+        clock.advance(Duration.ofMinutes(180));
+
+        // when: 만료 시점에 다시 조회 → refresh
+        board.onViewed(new PostEvents.Viewed(1));
+        board.refresh();
+
+        // then
+        assertThat(board.top(10)).singleElement().satisfies(e -> assertThat(e.score()).isCloseTo(1.0, within(1e-9)));
+    }
+
+    @DisplayName("추적 게시글 수는 max-posts를 넘지 않고, refresh가 점수 하위부터 정리해 새 게시글 자리를 만든다")
+    @Test
+    void trackedPosts_boundedByMaxPosts() {
+        // given: max-posts=8
+        TrendingBoard bounded = new TrendingBoard(180, 5, 60, 2, 8, 3, 5, 1, clock);
+        for (int id = 1; id <= 20; id++) {
+            for (int v = 0; v < id; v++) bounded.onViewed(new PostEvents.Viewed(id));
+        }
+        assertThat(bounded.trackedPosts()).isEqualTo(8);
+
+        // when
+        bounded.refresh();
+
+        // then: 상위 6개(8의 3/4)만 남기고, 비운 자리에 새 게시글이 들어온다
+        assertThat(bounded.trackedPosts()).isEqualTo(6);
+        assertThat(bounded.top(2)).extracting(TrendingBoard.Entry::postId).containsExactly(8, 7);
+        bounded.onViewed(new PostEvents.Viewed(99));
+        assertThat(bounded.trackedPosts()).isEqualTo(7);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
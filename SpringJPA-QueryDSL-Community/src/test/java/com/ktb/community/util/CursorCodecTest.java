@@ -0,0 +1,31 @@
+package com.ktb.community.util;
+
+import com.ktb.community.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @DisplayName("인코딩한 구성 요소를 그대로 복원 (URL 안전 문자만 사용)")
+    @Test
+    void roundTrip() {
+        // when
+        String cursor = CursorCodec.encode("LATEST", "2026-10-18T10:15:30.123", "42");
+
+        // then
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorCodec.decode(cursor, 3)).containsExactly("LATEST", "2026-10-18T10:15:30.123", "42");
+    }
+
+    @DisplayName("Base64가 아니거나 구성 요소 수가 다르면 invalid_cursor")
+    @Test
+    void decode_rejectsMalformedCursor() {
+        // when / then
+        assertThatThrownBy(() -> CursorCodec.decode("!!not-base64!!", 3))
+                .isInstanceOf(ApiException.class).hasMessageContaining("invalid_cursor");
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode("LATEST", "42"), 3))
+                .isInstanceOf(ApiException.class).hasMessageContaining("invalid_cursor");
+    }
+}
@@ -0,0 +1,90 @@
+package com.ktb.community.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtUtilTest {
+    private static final String SECRET = "test-secret-key-for-jwt-util-verification-0123456789";
+    private static final String OTHER_SECRET = "another-secret-key-that-signs-different-tokens-9876543210";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 600_000);
+
+    @DisplayName("유효한 Access Token은 userId, 타입, 만료 시각을 돌려준다")
+    @Test
+    void verify_validAccessToken() {
+        // given
+        Instant before = Instant.now();
+        String token = jwtUtil.generateAccessToken(7, "a@b.com", "닉네임");
+
+        // when
+        VerifiedToken verified = jwtUtil.verify(token).orElseThrow();
+
+        // then
+        assertThat(verified.userId()).isEqualTo(7);
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.expiresAt()).isBetween(before.plusSeconds(59), before.plusSeconds(61));
+    }
+
+    @DisplayName("Refresh Token은 검증되지만 Access Token으로 보지 않는다")
+    @Test
+    void verify_refreshTokenIsNotAccess() {
+        // given
+        String token = jwtUtil.generateRefreshToken(7);
+
+        // when
+        VerifiedToken verified = jwtUtil.verify(token).orElseThrow();
+
+        // then
+        assertThat(verified.isRefreshToken()).isTrue();
+        assertThat(verified.isAccessToken()).isFalse();
+    }
+
+    @DisplayName("만료된 토큰은 empty")
+    @Test
+    void verify_expiredToken() {
+        // given
+        String token = new JwtUtil(SECRET, -60_000, -60_000).generateAccessToken(7, "a@b.com", "닉네임");
+
+        // when, then
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @DisplayName("다른 키로 서명된 토큰은 empty")
+    @Test
+    void verify_badSignature() {
+        // given
+        String token = new JwtUtil(OTHER_SECRET, 60_000, 600_000).generateAccessToken(7, "a@b.com", "닉네임");
+
+        // when, then
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @DisplayName("형식이 잘못된 토큰은 empty")
+    @Test
+    void verify_malformedToken() {
+        assertThat(jwtUtil.verify("not-a-jwt")).isEmpty();
+        assertThat(jwtUtil.verify("")).isEmpty();
+    }
+
+    @DisplayName("exp가 없는 토큰은 서명이 맞아도 empty")
+    @Test
+    void verify_tokenWithoutExpiration() {
+        // given
+        String token = Jwts.builder()
+                .claim("userId", 7)
+                .claim("type", "access")
+                .issuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // when, then
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ktb.community.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @DisplayName("진행 중인 키로 들어온 호출은 loader를 다시 실행하지 않고 같은 결과를 받는다")
+    @Test
+    void concurrentCallers_shareOneLoad() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(500);
+
+        Future<String> leader = pool.submit(() -> flight.load(1, () -> {
+            loads.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return "post-1";
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch ready = new CountDownLatch(499);
+        List<Future<String>> followers = new ArrayList<>();
+        for (int n = 0; n < 499; n++) {
+            followers.add(pool.submit(() -> {
+                ready.countDown();
+                return flight.load(1, () -> {
+                    loads.incrementAndGet();
+                    return "again";
+                });
+            }));
+        }
+        // 모든 호출이 대기 상태에 들어간 뒤 해제
+        assertThat(ready.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        for (Future<String> f : followers) assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo("post-1");
+        assertThat(loads).hasValue(1);
+        pool.shutdown();
+        assertThat(flight.inFlightCount()).isZero();
+    }
+
+    @DisplayName("loader 예외는 대기하던 호출에도 원래 타입 그대로 전달되고, 이후 호출은 다시 실행된다")
+    @Test
+    void failure_propagatesAndIsNotRemembered() throws Exception {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        Future<Integer> leader = pool.submit(() -> flight.load("k", () -> {
+            entered.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Integer> follower = pool.submit(() -> flight.load("k", () -> 2));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        try {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(2); // 실패 이후 도착했다면 새로 실행
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        }
+        assertThat(flight.load("k", () -> 3)).isEqualTo(3);
+        pool.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.ktb.community.util;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final MutableClock clock = new MutableClock(START);
+
+    @DisplayName("캐시된 토큰은 exp 전까지 재검증 없이 재사용된다")
+    @Test
+    void verify_cachedUntilExpiration() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100, clock, clock);
+        VerifiedToken token = new VerifiedToken(1, "access", START.plusSeconds(60));
+        when(jwtUtil.verify("t1")).thenReturn(Optional.of(token));
+
+        // when
+        cache.verify("t1");
+        clock.advance(Duration.ofSeconds(59));
+        Optional<VerifiedToken> result = cache.verify("t1");
+
+        // then
+        assertThat(result).contains(token);
+        verify(jwtUtil, times(1)).verify("t1");
+    }
+
+    @DisplayName("토큰의 exp가 지나면 캐시에서 내주지 않고 다시 검증한다")
+    @Test
+    void verify_expiresAtTokenExpiration() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100, clock, clock);
+        VerifiedToken token = new VerifiedToken(1, "access", START.plusSeconds(60));
+        when(jwtUtil.verify("t1")).thenReturn(Optional.of(token)).thenReturn(Optional.empty());
+        cache.verify("t1");
+
+        // when
+        clock.advance(Duration.ofSeconds(60));
+        Optional<VerifiedToken> result = cache.verify("t1");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(jwtUtil, times(2)).verify("t1");
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("캐시 Ticker가 멈춰 있어도 벽시계 기준 exp가 지나면 내주지 않는다")
+    @Test
+    void verify_expCheckedByClockIndependentOfTicker() {
+        // given: 캐시 경과 시간은 흐르지 않는 Ticker
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100, clock, () -> 0L);
+        VerifiedToken token = new VerifiedToken(1, "access", START.plusSeconds(60));
+        when(jwtUtil.verify("t1")).thenReturn(Optional.of(token)).thenReturn(Optional.empty());
+        cache.verify("t1");
+
+        // when
+        clock.advance(Duration.ofSeconds(60));
+        Optional<VerifiedToken> result = cache.verify("t1");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @DisplayName("항목 수는 max-size를 넘지 않는다")
+    @Test
+    void verify_boundedByMaxSize() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 3, clock, clock);
+        for (int n = 0; n < 20; n++) {
+            when(jwtUtil.verify("t" + n)).thenReturn(Optional.of(new VerifiedToken(n, "access", START.plusSeconds(600))));
+        }
+
+        // when
+        for (int n = 0; n < 20; n++) cache.verify("t" + n);
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+    }
+
+    @DisplayName("검증 실패한 토큰은 캐시하지 않는다")
+    @Test
+    void verify_failureNotCached() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100, clock, clock);
+        when(jwtUtil.verify("bad")).thenReturn(Optional.empty());
+
+        // when
+        cache.verify("bad");
+        cache.verify("bad");
+
+        // then
+        verify(jwtUtil, times(2)).verify("bad");
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("ASCII가 아닌 문자만 다른 토큰도 서로 다른 캐시 키를 쓴다")
+    @Test
+    void verify_nonAsciiTokensDoNotShareKey() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 100, clock, clock);
+        when(jwtUtil.verify("t가")).thenReturn(Optional.of(new VerifiedToken(1, "access", START.plusSeconds(60))));
+        when(jwtUtil.verify("t나")).thenReturn(Optional.empty());
+        cache.verify("t가");
+
+        // when
+        Optional<VerifiedToken> result = cache.verify("t나");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(jwtUtil).verify("t나");
+    }
+
+    @DisplayName("jwt.cache.enabled=false면 매번 JwtUtil로 검증하고 캐시를 쓰지 않는다")
+    @Test
+    void verify_disabledBypassesCache() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), false, 100, clock, clock);
+        when(jwtUtil.verify("t1")).thenReturn(Optional.of(new VerifiedToken(1, "access", START.plusSeconds(60))));
+
+        // when
+        cache.verify("t1");
+        cache.verify("t1");
+
+        // then
+        verify(jwtUtil, times(2)).verify("t1");
+        assertThat(cache.size()).isZero();
+    }
+
+    /** 벽시계와 캐시 Ticker를 함께 움직인다 */
+    private static final class MutableClock extends Clock implements Ticker {
+        private volatile Instant now;
+
+        MutableClock(Instant now) { this.now = now; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+        @Override public long read() { return now.getEpochSecond() * 1_000_000_000L + now.getNano(); }
+    }
+}